@@ -260,6 +260,7 @@ public class ProcessGroupStatus implements Cloneable {
 
         clonedObj.id = id;
         clonedObj.name = name;
+        clonedObj.versionedFlowState = versionedFlowState;
         clonedObj.outputContentSize = outputContentSize;
         clonedObj.outputCount = outputCount;
         clonedObj.inputContentSize = inputContentSize;
@@ -75,13 +75,13 @@ public class Format extends RecordPathSegment {
 
         try {
             if (timeZoneID == null) {
-                return DataTypeUtils.getDateFormat(dateFormatString);
+                return DataTypeUtils.getCachedDateFormat(dateFormatString);
             } else {
                 final String timeZoneStr = RecordPathUtils.getFirstStringValue(timeZoneID, context);
                 if (StringUtils.isEmpty(timeZoneStr)) {
                     return null;
                 }
-                return DataTypeUtils.getDateFormat(dateFormatString, timeZoneStr);
+                return DataTypeUtils.getCachedDateFormat(dateFormatString, timeZoneStr);
             }
         } catch (final Exception e) {
             return null;
@@ -86,13 +86,13 @@ public class ToDate extends RecordPathSegment {
 
         try {
             if (timeZoneID == null) {
-                return DataTypeUtils.getDateFormat(dateFormatString);
+                return DataTypeUtils.getCachedDateFormat(dateFormatString);
             } else {
                 final String timeZoneStr = RecordPathUtils.getFirstStringValue(timeZoneID, context);
                 if (StringUtils.isEmpty(timeZoneStr)) {
                     return null;
                 }
-                return DataTypeUtils.getDateFormat(dateFormatString, timeZoneStr);
+                return DataTypeUtils.getCachedDateFormat(dateFormatString, timeZoneStr);
             }
         } catch (final Exception e) {
             return null;
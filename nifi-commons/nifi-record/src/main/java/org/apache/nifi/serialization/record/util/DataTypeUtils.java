@@ -107,9 +107,14 @@ public class DataTypeUtils {
 
     private static final TimeZone gmt = TimeZone.getTimeZone("gmt");
 
-    private static final Supplier<DateFormat> DEFAULT_DATE_FORMAT = () -> getDateFormat(RecordFieldType.DATE.getDefaultFormat());
-    private static final Supplier<DateFormat> DEFAULT_TIME_FORMAT = () -> getDateFormat(RecordFieldType.TIME.getDefaultFormat());
-    private static final Supplier<DateFormat> DEFAULT_TIMESTAMP_FORMAT = () -> getDateFormat(RecordFieldType.TIMESTAMP.getDefaultFormat());
+    private static final Supplier<DateFormat> DEFAULT_DATE_FORMAT = () -> getCachedDateFormat(RecordFieldType.DATE.getDefaultFormat());
+    private static final Supplier<DateFormat> DEFAULT_TIME_FORMAT = () -> getCachedDateFormat(RecordFieldType.TIME.getDefaultFormat());
+    private static final Supplier<DateFormat> DEFAULT_TIMESTAMP_FORMAT = () -> getCachedDateFormat(RecordFieldType.TIMESTAMP.getDefaultFormat());
+
+    // SimpleDateFormat is not thread-safe and is expensive to create, so each thread keeps its own instances, keyed by pattern and time zone.
+    // Only JDK types are stored in the ThreadLocal so that the values do not hold a reference to the ClassLoader that loaded this class.
+    private static final int MAX_CACHED_DATE_FORMATS = 64;
+    private static final ThreadLocal<Map<String, DateFormat>> CACHED_DATE_FORMATS = ThreadLocal.withInitial(HashMap::new);
 
     private static final int FLOAT_SIGNIFICAND_PRECISION = 24; // As specified in IEEE 754 binary32
     private static final int DOUBLE_SIGNIFICAND_PRECISION = 53; // As specified in IEEE 754 binary64
@@ -974,16 +979,16 @@ public class DataTypeUtils {
         }
 
         if (value instanceof java.sql.Date) {
-            return getDateFormat(format).format((java.util.Date) value);
+            return getCachedDateFormat(format).format((java.util.Date) value);
         }
         if (value instanceof java.sql.Time) {
-            return getDateFormat(format).format((java.util.Date) value);
+            return getCachedDateFormat(format).format((java.util.Date) value);
         }
         if (value instanceof java.sql.Timestamp) {
-            return getDateFormat(format).format((java.util.Date) value);
+            return getCachedDateFormat(format).format((java.util.Date) value);
         }
         if (value instanceof java.util.Date) {
-            return getDateFormat(format).format((java.util.Date) value);
+            return getCachedDateFormat(format).format((java.util.Date) value);
         }
         if (value instanceof Blob) {
             Blob blob = (Blob) value;
@@ -1100,7 +1105,7 @@ public class DataTypeUtils {
             }
 
             try {
-                getDateFormat(format).parse((String) value);
+                getCachedDateFormat(format).parse((String) value);
                 return true;
             } catch (final ParseException e) {
                 return false;
@@ -1182,6 +1187,56 @@ public class DataTypeUtils {
         return df;
     }
 
+    /**
+     * Returns a DateFormat for the given pattern in the GMT time zone, as {@link #getDateFormat(String)} does, except that the instance is
+     * cached and reused for subsequent calls made by the same thread. The returned DateFormat must therefore be used only by the calling
+     * thread, must not be modified, and should not be retained beyond the current operation.
+     *
+     * @param format the pattern of the DateFormat
+     * @return a DateFormat for the given pattern, or <code>null</code> if the given pattern is <code>null</code>
+     */
+    public static DateFormat getCachedDateFormat(final String format) {
+        if (format == null) {
+            return null;
+        }
+        return getCachedDateFormat(format, gmt);
+    }
+
+    /**
+     * Returns a DateFormat for the given pattern and time zone, as {@link #getDateFormat(String, String)} does, except that the instance is
+     * cached and reused for subsequent calls made by the same thread. The returned DateFormat must therefore be used only by the calling
+     * thread, must not be modified, and should not be retained beyond the current operation.
+     *
+     * @param format the pattern of the DateFormat
+     * @param timezoneID the ID of the time zone of the DateFormat
+     * @return a DateFormat for the given pattern and time zone, or <code>null</code> if either argument is <code>null</code>
+     */
+    public static DateFormat getCachedDateFormat(final String format, final String timezoneID) {
+        if (format == null || timezoneID == null) {
+            return null;
+        }
+        return getCachedDateFormat(format, TimeZone.getTimeZone(timezoneID));
+    }
+
+    private static DateFormat getCachedDateFormat(final String format, final TimeZone timeZone) {
+        final Map<String, DateFormat> dateFormats = CACHED_DATE_FORMATS.get();
+        final String key = timeZone.getID() + " " + format;
+
+        DateFormat df = dateFormats.get(key);
+        if (df == null) {
+            // Patterns usually come from a handful of configured properties, but guard against unbounded growth if they are data-driven
+            if (dateFormats.size() >= MAX_CACHED_DATE_FORMATS) {
+                dateFormats.clear();
+            }
+
+            df = new SimpleDateFormat(format);
+            df.setTimeZone(timeZone);
+            dateFormats.put(key, df);
+        }
+
+        return df;
+    }
+
     public static boolean isTimeTypeCompatible(final Object value, final String format) {
         return isDateTypeCompatible(value, format);
     }
@@ -22,6 +22,7 @@ import org.apache.nifi.serialization.record.type.ChoiceDataType;
 import org.apache.nifi.serialization.record.type.RecordDataType;
 import org.apache.nifi.serialization.record.util.DataTypeUtils;
 import org.apache.nifi.serialization.record.util.IllegalTypeConversionException;
+import org.junit.Ignore;
 import org.junit.Test;
 
 import java.math.BigDecimal;
@@ -29,6 +30,7 @@ import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.text.DateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,7 +39,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.DoubleAdder;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -47,7 +55,9 @@ import java.util.stream.Stream;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class TestDataTypeUtils {
@@ -874,4 +884,71 @@ public class TestDataTypeUtils {
         assertTrue(DataTypeUtils.isFittingNumberType(9D, RecordFieldType.DOUBLE));
         assertFalse(DataTypeUtils.isFittingNumberType(9, RecordFieldType.DOUBLE));
     }
+
+    @Test
+    public void testCachedDateFormatIsReusedPerThread() throws Exception {
+        final DateFormat dateFormat = DataTypeUtils.getCachedDateFormat("yyyy-MM-dd");
+        assertSame(dateFormat, DataTypeUtils.getCachedDateFormat("yyyy-MM-dd"));
+        assertNotSame(dateFormat, DataTypeUtils.getCachedDateFormat("yyyy-MM-dd", "America/New_York"));
+        assertNotSame(dateFormat, DataTypeUtils.getCachedDateFormat("MM/dd/yyyy"));
+        assertEquals(TimeZone.getTimeZone("gmt"), dateFormat.getTimeZone());
+        assertNull(DataTypeUtils.getCachedDateFormat(null));
+
+        final AtomicReference<DateFormat> otherThreadFormat = new AtomicReference<>();
+        final Thread thread = new Thread(() -> otherThreadFormat.set(DataTypeUtils.getCachedDateFormat("yyyy-MM-dd")));
+        thread.start();
+        thread.join();
+        assertNotNull(otherThreadFormat.get());
+        assertNotSame(dateFormat, otherThreadFormat.get());
+    }
+
+    @Test
+    public void testCachedDateFormatParsesConcurrently() throws Exception {
+        final java.sql.Date expected = DataTypeUtils.toDate("2020-01-15", () -> DataTypeUtils.getDateFormat("yyyy-MM-dd"), "date");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        final java.sql.Date date = DataTypeUtils.toDate("2020-01-15", () -> DataTypeUtils.getCachedDateFormat("yyyy-MM-dd"), "date");
+                        if (date.getTime() != expected.getTime()) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+
+            for (final Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testDateParsingPerformance() {
+        final int iterations = 1_000_000;
+
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            for (int j = 0; j < iterations; j++) {
+                DataTypeUtils.toTimestamp("2020-01-15 10:11:12", () -> DataTypeUtils.getDateFormat("yyyy-MM-dd HH:mm:ss"), "timestamp");
+            }
+            final long newFormatMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int j = 0; j < iterations; j++) {
+                DataTypeUtils.toTimestamp("2020-01-15 10:11:12", () -> DataTypeUtils.getCachedDateFormat("yyyy-MM-dd HH:mm:ss"), "timestamp");
+            }
+            final long cachedFormatMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            System.out.println("Parsed " + iterations + " timestamps in " + newFormatMillis + " millis with a new DateFormat per value and "
+                + cachedFormatMillis + " millis with a cached DateFormat");
+        }
+    }
 }
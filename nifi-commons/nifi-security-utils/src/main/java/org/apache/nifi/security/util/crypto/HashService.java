@@ -18,12 +18,21 @@ package org.apache.nifi.security.util.crypto;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.nifi.components.AllowableValue;
@@ -40,6 +49,7 @@ import org.slf4j.LoggerFactory;
 public class HashService {
     private static final Logger logger = LoggerFactory.getLogger(HashService.class);
     private static final int BUFFER_SIZE = 8192;
+    private static final int CONCURRENT_BUFFER_SIZE = 1024 * 1024;
     private static final String UTF_16_DESCRIPTION = "This character set normally decodes using an optional BOM at the beginning of the data but encodes by inserting a BE BOM. " +
         "For hashing, it will be replaced with UTF-16BE. ";
 
@@ -112,6 +122,67 @@ public class HashService {
         }
     }
 
+    /**
+     * Returns the hex-encoded hashes of the specified stream for each of the specified algorithms, reading the stream only once.
+     * If an executor is provided, each algorithm is computed as a separate task, concurrently with the others and with reading
+     * the next block of the stream, so the time taken is about that of the slowest algorithm rather than the sum of all of them.
+     *
+     * @param algorithms the hash algorithms to use (cannot be {@code null} or empty)
+     * @param value      the value to hash (cannot be {@code null} but can be empty)
+     * @param executor   the executor to compute the hashes with, or {@code null} to compute them on the calling thread
+     * @return the hash value in hex for each algorithm, in the order of the algorithms
+     * @throws IOException if there is an error reading the stream
+     */
+    public static Map<HashAlgorithm, String> hashValuesStreaming(Collection<HashAlgorithm> algorithms, InputStream value, ExecutorService executor) throws IOException {
+        if (algorithms == null || algorithms.isEmpty()) {
+            throw new IllegalArgumentException("The hash algorithms cannot be empty");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("The value cannot be null");
+        }
+
+        final Map<HashAlgorithm, StreamingDigest> digests = new LinkedHashMap<>();
+        for (final HashAlgorithm algorithm : new LinkedHashSet<>(algorithms)) {
+            digests.put(algorithm, createStreamingDigest(algorithm));
+        }
+
+        // While the digests are updated with one buffer, the next block of the stream is read into the other
+        byte[] buffer = new byte[executor == null ? BUFFER_SIZE : CONCURRENT_BUFFER_SIZE];
+        byte[] nextBuffer = executor == null ? buffer : new byte[CONCURRENT_BUFFER_SIZE];
+        List<Future<?>> pendingUpdates = Collections.emptyList();
+        try {
+            int read = value.read(buffer);
+            while (read > -1) {
+                final byte[] block = buffer;
+                final int length = read;
+                if (executor == null) {
+                    for (final StreamingDigest digest : digests.values()) {
+                        digest.update(block, 0, length);
+                    }
+                } else {
+                    pendingUpdates = new ArrayList<>(digests.size());
+                    for (final StreamingDigest digest : digests.values()) {
+                        pendingUpdates.add(executor.submit(() -> digest.update(block, 0, length)));
+                    }
+
+                    buffer = nextBuffer;
+                    nextBuffer = block;
+                }
+
+                read = value.read(buffer);
+                awaitUpdates(pendingUpdates);
+            }
+        } finally {
+            for (final Future<?> pendingUpdate : pendingUpdates) {
+                pendingUpdate.cancel(true);
+            }
+        }
+
+        final Map<HashAlgorithm, String> hashValues = new LinkedHashMap<>();
+        digests.forEach((algorithm, digest) -> hashValues.put(algorithm, Hex.encodeHexString(digest.digest())));
+        return hashValues;
+    }
+
     /**
      * Returns the hex-encoded hash of the specified value.
      *
@@ -223,4 +294,59 @@ public class HashService {
         blake2bDigest.doFinal(rawHash, 0);
         return rawHash;
     }
+
+    private static void awaitUpdates(final List<Future<?>> pendingUpdates) throws IOException {
+        for (final Future<?> pendingUpdate : pendingUpdates) {
+            try {
+                pendingUpdate.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for hash to be computed");
+            } catch (final ExecutionException e) {
+                throw new IOException("Failed to compute hash", e.getCause());
+            }
+        }
+    }
+
+    private static StreamingDigest createStreamingDigest(final HashAlgorithm algorithm) {
+        // The Blake2 algorithms are instantiated differently and rely on BouncyCastle
+        if (algorithm.isBlake2()) {
+            final Blake2bDigest blake2bDigest = new Blake2bDigest(algorithm.getDigestBytesLength() * 8);
+            return new StreamingDigest() {
+                @Override
+                public void update(final byte[] input, final int offset, final int length) {
+                    blake2bDigest.update(input, offset, length);
+                }
+
+                @Override
+                public byte[] digest() {
+                    final byte[] rawHash = new byte[blake2bDigest.getDigestSize()];
+                    blake2bDigest.doFinal(rawHash, 0);
+                    return rawHash;
+                }
+            };
+        } else {
+            final MessageDigest messageDigest = DigestUtils.getDigest(algorithm.getName());
+            return new StreamingDigest() {
+                @Override
+                public void update(final byte[] input, final int offset, final int length) {
+                    messageDigest.update(input, offset, length);
+                }
+
+                @Override
+                public byte[] digest() {
+                    return messageDigest.digest();
+                }
+            };
+        }
+    }
+
+    /**
+     * A digest that is updated with the blocks of a stream, which may be done by a different thread for each block
+     */
+    private interface StreamingDigest {
+        void update(byte[] input, int offset, int length);
+
+        byte[] digest();
+    }
 }
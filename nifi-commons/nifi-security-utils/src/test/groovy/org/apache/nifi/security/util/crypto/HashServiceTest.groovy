@@ -23,6 +23,7 @@ import org.junit.After
 import org.junit.AfterClass
 import org.junit.Before
 import org.junit.BeforeClass
+import org.junit.Ignore
 import org.junit.Rule
 import org.junit.Test
 import org.junit.rules.TemporaryFolder
@@ -34,6 +35,9 @@ import org.slf4j.LoggerFactory
 import java.nio.charset.Charset
 import java.nio.charset.StandardCharsets
 import java.security.Security
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
 
 @RunWith(JUnit4.class)
 class HashServiceTest extends GroovyTestCase {
@@ -441,6 +445,65 @@ class HashServiceTest extends GroovyTestCase {
         }
     }
 
+    @Test
+    void testShouldHashValuesFromStreamInOnePass() throws Exception {
+        // Arrange
+        def algorithms = HashAlgorithm.values() as List<HashAlgorithm>
+
+        // Generate content that spans several of the buffers used when hashing concurrently
+        byte[] content = new byte[5 * 1024 * 1024 + 123]
+        new Random(0).nextBytes(content)
+
+        def expectedHashes = algorithms.collectEntries { HashAlgorithm algorithm ->
+            [(algorithm), HashService.hashValueStreaming(algorithm, new ByteArrayInputStream(content))]
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+        try {
+            [null, executor].each { ExecutorService hashExecutor ->
+                // Act
+                Map<HashAlgorithm, String> generatedHashes = HashService.hashValuesStreaming(algorithms, new ByteArrayInputStream(content), hashExecutor)
+                logger.info("Generated ${generatedHashes.size()} hashes with executor ${hashExecutor}")
+
+                // Assert
+                assert generatedHashes.keySet() as List == algorithms
+                assert generatedHashes == expectedHashes
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    @Test
+    void testHashThroughput() throws Exception {
+        // Arrange
+        final int contentSize = 256 * 1024 * 1024
+        byte[] content = new byte[contentSize]
+        new Random(0).nextBytes(content)
+
+        // Act
+        HashAlgorithm.values().each { HashAlgorithm algorithm ->
+            long start = System.nanoTime()
+            HashService.hashValueStreaming(algorithm, new ByteArrayInputStream(content))
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+            logger.info("${algorithm.getName().padLeft(11)}: ${(contentSize / 1024 / 1024 * 1000 / Math.max(millis, 1)) as int} MB/s")
+        }
+
+        def algorithms = [HashAlgorithm.MD5, HashAlgorithm.SHA256, HashAlgorithm.SHA512, HashAlgorithm.BLAKE2_256]
+        ExecutorService executor = Executors.newFixedThreadPool(algorithms.size())
+        try {
+            [null, executor].each { ExecutorService hashExecutor ->
+                long start = System.nanoTime()
+                HashService.hashValuesStreaming(algorithms, new ByteArrayInputStream(content), hashExecutor)
+                long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)
+                logger.info("${algorithms} ${hashExecutor == null ? "sequentially" : "concurrently"}: ${millis} millis")
+            }
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
     /**
      * Returns a {@link String} containing the hex-encoded bytes in the format "0xAB 0xCD ...".
      *
@@ -96,6 +96,10 @@ public class AhoCorasick<T> implements Search<T> {
                     } else {
                         next.setFailureNode(root);
                     }
+                    // link directly to the nearest node on the failure chain that has a match so that
+                    // searching does not need to walk the whole failure chain for every byte
+                    final Node failureNode = next.getFailureNode();
+                    next.setOutputNode(failureNode.hasMatch() ? failureNode : failureNode.getOutputNode());
                     queue.add(next);
                 }
             }
@@ -107,6 +111,33 @@ public class AhoCorasick<T> implements Search<T> {
         return search(stream, findAll, null);
     }
 
+    /**
+     * Searches the given bytes for matches between the already specified dictionary and the bytes scanned. This avoids the
+     * overhead of reading byte by byte from an InputStream when the haystack is already in memory, such as a single line of text.
+     *
+     * @param haystack the source data to scan for hits
+     * @param findAll if true will find all matches if false will find only the first match
+     * @return SearchState containing results Map might be empty which indicates no matches found but will not be null
+     * @throws IllegalStateException if the dictionary has not yet been initialized
+     */
+    public SearchState<T> search(final byte[] haystack, final boolean findAll) {
+        if (root == null) {
+            throw new IllegalStateException();
+        }
+        final SearchState<T> currentState = new SearchState<>(root);
+        Node current = root;
+        for (final byte b : haystack) {
+            currentState.incrementBytesRead(1L);
+            current = next(current, b & 0xff);
+            addResults(current, currentState);
+            if (currentState.foundMatch() && !findAll) {
+                break;//give up as soon as we have at least one match
+            }
+        }
+        currentState.setCurrentNode(current);
+        return currentState;
+    }
+
     private SearchState search(final InputStream stream, final boolean findAll, final SearchState state) throws IOException {
         if (root == null) {
             throw new IllegalStateException();
@@ -119,31 +150,8 @@ public class AhoCorasick<T> implements Search<T> {
         int currentChar;
         while ((currentChar = stream.read()) >= 0) {
             currentState.incrementBytesRead(1L);
-            Node next = current.getNeighbor(currentChar);
-            if (next == null) {
-                next = current.getFailureNode();
-                while ((next != null) && next.getNeighbor(currentChar) == null) {
-                    next = next.getFailureNode();
-                }
-                if (next != null) {
-                    next = next.getNeighbor(currentChar);
-                } else {
-                    next = root;
-                }
-            }
-            if (next == null) {
-                throw new IllegalStateException("tree out of sync");
-            }
-            //Accept condition
-            if (next.hasMatch()) {
-                currentState.addResult(next.getMatchingTerm());
-            }
-            for (Node failNode = next.getFailureNode(); failNode != null; failNode = failNode.getFailureNode()) {
-                if (failNode.hasMatch()) {
-                    currentState.addResult(failNode.getMatchingTerm());
-                }
-            }
-            current = next;
+            current = next(current, currentChar);
+            addResults(current, currentState);
             if (currentState.foundMatch() && !findAll) {
                 break;//give up as soon as we have at least one match
             }
@@ -152,4 +160,33 @@ public class AhoCorasick<T> implements Search<T> {
         return currentState;
     }
 
+    private Node next(final Node current, final int currentChar) {
+        Node next = current.getNeighbor(currentChar);
+        if (next == null) {
+            next = current.getFailureNode();
+            while ((next != null) && next.getNeighbor(currentChar) == null) {
+                next = next.getFailureNode();
+            }
+            if (next != null) {
+                next = next.getNeighbor(currentChar);
+            } else {
+                next = root;
+            }
+        }
+        if (next == null) {
+            throw new IllegalStateException("tree out of sync");
+        }
+        return next;
+    }
+
+    private void addResults(final Node node, final SearchState<T> currentState) {
+        //Accept condition
+        if (node.hasMatch()) {
+            currentState.addResult(node.getMatchingTerm());
+        }
+        for (Node outputNode = node.getOutputNode(); outputNode != null; outputNode = outputNode.getOutputNode()) {
+            currentState.addResult(outputNode.getMatchingTerm());
+        }
+    }
+
 }
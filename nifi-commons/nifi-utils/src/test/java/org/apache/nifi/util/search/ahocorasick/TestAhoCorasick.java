@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.util.search.ahocorasick;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.nifi.util.search.SearchTerm;
+import org.junit.Test;
+
+public class TestAhoCorasick {
+
+    @Test
+    public void testOverlappingTerms() throws IOException {
+        final AhoCorasick<String> search = createSearch("he", "she", "his", "hers");
+        final byte[] haystack = "ushers".getBytes(StandardCharsets.UTF_8);
+
+        final Map<String, List<Long>> expected = new HashMap<>();
+        expected.put("he", Collections.singletonList(4L));
+        expected.put("she", Collections.singletonList(4L));
+        expected.put("hers", Collections.singletonList(6L));
+
+        assertEquals(expected, toMap(search.search(haystack, true)));
+        assertEquals(expected, toMap(search.search(new ByteArrayInputStream(haystack), true)));
+    }
+
+    @Test
+    public void testFindFirst() {
+        final AhoCorasick<String> search = createSearch("he", "she", "hers");
+
+        final SearchState<String> state = search.search("ushers".getBytes(StandardCharsets.UTF_8), false);
+        assertTrue(state.foundMatch());
+        assertEquals(new HashSet<>(Arrays.asList("he", "she")), toMap(state).keySet());
+
+        assertTrue(search.search("hi there".getBytes(StandardCharsets.UTF_8), false).foundMatch());
+        assertFalse(search.search("nothing".getBytes(StandardCharsets.UTF_8), true).foundMatch());
+    }
+
+    private AhoCorasick<String> createSearch(final String... terms) {
+        final Set<SearchTerm<String>> searchTerms = new HashSet<>();
+        for (final String term : terms) {
+            searchTerms.add(new SearchTerm<>(term.getBytes(StandardCharsets.UTF_8), false, term));
+        }
+
+        final AhoCorasick<String> search = new AhoCorasick<>();
+        search.initializeDictionary(searchTerms);
+        return search;
+    }
+
+    private Map<String, List<Long>> toMap(final SearchState<String> state) {
+        final Map<String, List<Long>> results = new HashMap<>();
+        for (final Map.Entry<SearchTerm<String>, List<Long>> entry : state.getResults().entrySet()) {
+            results.put(entry.getKey().getReference(), entry.getValue());
+        }
+        return results;
+    }
+}
@@ -34,10 +34,12 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -223,7 +225,10 @@ public class HashMapSnapshot<T> implements WriteAheadSnapshot<T>, RecordLookup<T
 
     @Override
     public SnapshotCapture<T> prepareSnapshot(final long maxTransactionId, final Set<String> swapFileLocations) {
-        return new Snapshot(new HashMap<>(recordMap), new HashSet<>(swapFileLocations), maxTransactionId);
+        // Capture only the records themselves rather than copying the map. With many millions of records, a copy of the map
+        // requires far more heap than the records' references and takes correspondingly longer while updates are blocked.
+        final List<T> records = new ArrayList<>(recordMap.values());
+        return new Snapshot(records, new HashSet<>(swapFileLocations), maxTransactionId);
     }
 
     private int getVersion() {
@@ -274,11 +279,11 @@ public class HashMapSnapshot<T> implements WriteAheadSnapshot<T>, RecordLookup<T
             dataOut.writeUTF(serde.getClass().getName());
             dataOut.writeInt(serde.getVersion());
             dataOut.writeLong(snapshot.getMaxTransactionId());
-            dataOut.writeInt(snapshot.getRecords().size());
+            dataOut.writeInt(snapshot.getRecordCount());
             serde.writeHeader(dataOut);
 
             // Serialize each record
-            for (final T record : snapshot.getRecords().values()) {
+            for (final T record : snapshot.getRecordValues()) {
                 logger.trace("Checkpointing {}", record);
                 serde.serializeRecord(record, dataOut);
             }
@@ -311,21 +316,41 @@ public class HashMapSnapshot<T> implements WriteAheadSnapshot<T>, RecordLookup<T
 
 
     public class Snapshot implements SnapshotCapture<T> {
-        private final Map<Object, T> records;
+        private final Collection<T> records;
         private final long maxTransactionId;
         private final Set<String> swapLocations;
+        private Map<Object, T> recordsById;
 
-        public Snapshot(final Map<Object, T> records, final Set<String> swapLocations, final long maxTransactionId) {
+        public Snapshot(final Collection<T> records, final Set<String> swapLocations, final long maxTransactionId) {
             this.records = records;
             this.swapLocations = swapLocations;
             this.maxTransactionId = maxTransactionId;
         }
 
         @Override
-        public final Map<Object, T> getRecords() {
+        public final synchronized Map<Object, T> getRecords() {
+            if (recordsById == null) {
+                final Map<Object, T> map = new HashMap<>();
+                for (final T record : records) {
+                    map.put(serdeFactory.getRecordIdentifier(record), record);
+                }
+
+                recordsById = map;
+            }
+
+            return recordsById;
+        }
+
+        @Override
+        public Collection<T> getRecordValues() {
             return records;
         }
 
+        @Override
+        public int getRecordCount() {
+            return records.size();
+        }
+
         @Override
         public long getMaxTransactionId() {
             return maxTransactionId;
@@ -17,12 +17,28 @@
 
 package org.apache.nifi.wali;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
 public interface SnapshotCapture<T> {
     Map<Object, T> getRecords();
 
+    /**
+     * @return the records that make up the snapshot, in no particular order. Callers that do not need to look up records by
+     *         their identifier should prefer this method over {@link #getRecords()}, as it may avoid building a Map of all records.
+     */
+    default Collection<T> getRecordValues() {
+        return getRecords().values();
+    }
+
+    /**
+     * @return the number of records in the snapshot
+     */
+    default int getRecordCount() {
+        return getRecordValues().size();
+    }
+
     long getMaxTransactionId();
 
     Set<String> getSwapLocations();
@@ -29,9 +29,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.wali.DummyRecord;
 import org.wali.DummyRecordSerde;
@@ -213,4 +215,30 @@ public class TestHashMapSnapshot {
         assertTrue(swapLocations.contains("SwapLocation-1"));
     }
 
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testSnapshotPerformance() throws IOException {
+        final HashMapSnapshot<DummyRecord> snapshot = new HashMapSnapshot<>(storageDirectory, serdeFactory);
+        for (int i = 0; i < 2_000_000; i++) {
+            snapshot.update(Collections.singleton(new DummyRecord(String.valueOf(i), UpdateType.CREATE)));
+        }
+
+        final Runtime runtime = Runtime.getRuntime();
+        for (int iteration = 0; iteration < 5; iteration++) {
+            System.gc();
+            final long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+            final long start = System.nanoTime();
+            final SnapshotCapture<DummyRecord> capture = snapshot.prepareSnapshot(iteration);
+            final long prepareNanos = System.nanoTime() - start;
+            final long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+            snapshot.writeSnapshot(capture);
+            final long totalNanos = System.nanoTime() - start;
+
+            System.out.println("Captured " + capture.getRecordCount() + " records in " + TimeUnit.NANOSECONDS.toMillis(prepareNanos) + " millis using approximately "
+                + (heapAfter - heapBefore) / 1024 / 1024 + " MB of heap; wrote " + new File(storageDirectory, "checkpoint").length() + " bytes in a total of "
+                + TimeUnit.NANOSECONDS.toMillis(totalNanos) + " millis");
+        }
+    }
 }
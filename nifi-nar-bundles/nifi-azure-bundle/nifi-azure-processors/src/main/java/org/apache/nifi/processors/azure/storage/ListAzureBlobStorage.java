@@ -108,6 +108,7 @@ public class ListAzureBlobStorage extends AbstractListProcessor<BlobInfo> {
             AzureStorageUtils.PROXY_CONFIGURATION_SERVICE,
             ListedEntityTracker.TRACKING_STATE_CACHE,
             ListedEntityTracker.TRACKING_TIME_WINDOW,
+            ListedEntityTracker.TRACKING_STATE_PARTITIONS,
             ListedEntityTracker.INITIAL_LISTING_TARGET
             ));
 
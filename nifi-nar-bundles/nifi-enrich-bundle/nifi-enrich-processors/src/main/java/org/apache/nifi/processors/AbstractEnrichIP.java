@@ -63,6 +63,17 @@ public abstract class AbstractEnrichIP extends AbstractProcessor {
             .addValidator(StandardValidators.createAttributeExpressionLanguageValidator(AttributeExpression.ResultType.STRING))
             .build();
 
+    public static final PropertyDescriptor LOOKUP_CACHE_SIZE = new PropertyDescriptor.Builder()
+            .name("enrich-ip-lookup-cache-size")
+            .displayName("Lookup Cache Size")
+            .description("The maximum number of lookup results to cache, keyed by IP address. When the same IP addresses occur repeatedly, "
+                    + "caching their results avoids searching and decoding the database for every lookup. The least recently used results "
+                    + "are evicted when the cache is full. A value of 0 disables caching.")
+            .required(true)
+            .defaultValue("0")
+            .addValidator(StandardValidators.NON_NEGATIVE_INTEGER_VALIDATOR)
+            .build();
+
     public static final Relationship REL_FOUND = new Relationship.Builder()
             .name("found")
             .description("Where to route flow files after successfully enriching attributes with data provided by database")
@@ -92,7 +103,8 @@ public abstract class AbstractEnrichIP extends AbstractProcessor {
         final String dbFileString = context.getProperty(GEO_DATABASE_FILE).evaluateAttributeExpressions().getValue();
         final File dbFile = new File(dbFileString);
         final StopWatch stopWatch = new StopWatch(true);
-        final DatabaseReader reader = new DatabaseReader.Builder(dbFile).build();
+        final int lookupCacheSize = context.getProperty(LOOKUP_CACHE_SIZE).asInteger();
+        final DatabaseReader reader = new DatabaseReader.Builder(dbFile).lookupCacheSize(lookupCacheSize).build();
         stopWatch.stop();
         getLogger().info("Completed loading of Maxmind Database.  Elapsed time was {} milliseconds.", new Object[]{stopWatch.getDuration(TimeUnit.MILLISECONDS)});
         databaseReaderRef.set(reader);
@@ -116,6 +128,7 @@ public abstract class AbstractEnrichIP extends AbstractProcessor {
         final List<PropertyDescriptor> props = new ArrayList<>();
         props.add(GEO_DATABASE_FILE);
         props.add(IP_ADDRESS_ATTRIBUTE);
+        props.add(LOOKUP_CACHE_SIZE);
         this.propertyDescriptors = Collections.unmodifiableList(props);
     }
 
@@ -57,6 +57,7 @@ public class DatabaseReader implements GeoIp2Provider, Closeable {
 
     private final Reader reader;
     private final ObjectMapper om;
+    private final LookupCache lookupCache;
     private List<String> locales;
 
     private DatabaseReader(final Builder builder) throws IOException {
@@ -77,6 +78,7 @@ public class DatabaseReader implements GeoIp2Provider, Closeable {
         this.om.setInjectableValues(inject);
 
         this.locales = builder.locales;
+        this.lookupCache = new LookupCache(builder.lookupCacheSize);
     }
 
     /**
@@ -99,6 +101,7 @@ public class DatabaseReader implements GeoIp2Provider, Closeable {
 
         List<String> locales = Arrays.asList("en");
         FileMode mode = FileMode.MEMORY_MAPPED;
+        long lookupCacheSize = 0;
 
         /**
          * @param stream the stream containing the GeoIP2 database to use.
@@ -139,6 +142,19 @@ public class DatabaseReader implements GeoIp2Provider, Closeable {
             return this;
         }
 
+        /**
+         * @param val The maximum number of lookup results to cache, keyed by IP address. The least recently used results are
+         *            evicted when the cache is full. A value of 0 disables caching.
+         * @return Builder object
+         */
+        public Builder lookupCacheSize(long val) {
+            if (val < 0) {
+                throw new IllegalArgumentException("Lookup cache size cannot be negative");
+            }
+            this.lookupCacheSize = val;
+            return this;
+        }
+
         /**
          * @return an instance of <code>DatabaseReader</code> created from the fields set on this builder.
          * @throws IOException if there is an error reading the database
@@ -160,6 +176,10 @@ public class DatabaseReader implements GeoIp2Provider, Closeable {
             throw new UnsupportedOperationException("Invalid attempt to open a " + databaseType + " database using the " + caller + " method");
         }
 
+        return lookupCache.get(ipAddress, cls, () -> lookup(ipAddress, cls));
+    }
+
+    private <T> T lookup(InetAddress ipAddress, Class<T> cls) throws IOException {
         ObjectNode node = (ObjectNode) this.reader.get(ipAddress);
 
         if (node == null) {
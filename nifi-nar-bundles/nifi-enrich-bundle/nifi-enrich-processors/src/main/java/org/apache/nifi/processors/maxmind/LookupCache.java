@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.maxmind;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * A bounded, least-recently-used cache of the responses looked up by a {@link DatabaseReader}, keyed by IP address and response type.
+ * Addresses that are not found are cached as well. A cache with a maximum size of 0 does not cache anything.
+ */
+class LookupCache {
+
+    private final Cache<LookupKey, Optional<Object>> cache;
+
+    LookupCache(final long maximumSize) {
+        this.cache = maximumSize > 0 ? CacheBuilder.newBuilder().maximumSize(maximumSize).build() : null;
+    }
+
+    /**
+     * @param ipAddress the address to look up
+     * @param responseType the type of the response
+     * @param lookup performs the lookup if the response is not cached
+     * @return the response for the given address, or <code>null</code> if the address was not found
+     * @throws IOException if the lookup fails
+     */
+    <T> T get(final InetAddress ipAddress, final Class<T> responseType, final Lookup<T> lookup) throws IOException {
+        if (cache == null) {
+            return lookup.lookup();
+        }
+
+        // Addresses that are not found are cached as well, as an empty Optional
+        final LookupKey key = new LookupKey(ipAddress, responseType);
+        final Optional<Object> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return responseType.cast(cached.orElse(null));
+        }
+
+        final T response = lookup.lookup();
+        cache.put(key, Optional.ofNullable(response));
+        return response;
+    }
+
+    interface Lookup<T> {
+        T lookup() throws IOException;
+    }
+
+    /**
+     * Key of the lookup cache. The address is held in its packed form so that the key does not retain any host name
+     * that the InetAddress may have been created with.
+     */
+    private static class LookupKey {
+        private final byte[] address;
+        private final Class<?> responseType;
+        private final int hashCode;
+
+        LookupKey(final InetAddress ipAddress, final Class<?> responseType) {
+            this.address = ipAddress.getAddress();
+            this.responseType = responseType;
+            this.hashCode = 31 * Arrays.hashCode(address) + responseType.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LookupKey)) {
+                return false;
+            }
+
+            final LookupKey other = (LookupKey) obj;
+            return responseType == other.responseType && Arrays.equals(address, other.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
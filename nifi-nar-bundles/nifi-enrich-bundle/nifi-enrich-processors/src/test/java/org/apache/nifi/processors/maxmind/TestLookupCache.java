@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.maxmind;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TestLookupCache {
+
+    private static final byte[] ADDRESS = new byte[] {(byte) 192, (byte) 168, 0, 1};
+
+    private final AtomicInteger lookups = new AtomicInteger(0);
+
+    @Test
+    public void testCacheHitReturnsSameResponse() throws IOException {
+        final LookupCache cache = new LookupCache(10);
+        final InetAddress address = InetAddress.getByAddress(ADDRESS);
+
+        final Object first = cache.get(address, Object.class, this::lookup);
+        final Object second = cache.get(address, Object.class, this::lookup);
+
+        assertSame(first, second);
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void testAddressNotFoundIsCached() throws IOException {
+        final LookupCache cache = new LookupCache(10);
+        final InetAddress address = InetAddress.getByAddress(ADDRESS);
+
+        assertNull(cache.get(address, Object.class, this::lookupNotFound));
+        assertNull(cache.get(address, Object.class, this::lookupNotFound));
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void testHostNameNotPartOfKey() throws IOException {
+        final LookupCache cache = new LookupCache(10);
+        final InetAddress first = InetAddress.getByAddress("first.example.com", ADDRESS);
+        final InetAddress second = InetAddress.getByAddress("second.example.com", ADDRESS);
+
+        assertSame(cache.get(first, Object.class, this::lookup), cache.get(second, Object.class, this::lookup));
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void testResponseTypeIsPartOfKey() throws IOException {
+        final LookupCache cache = new LookupCache(10);
+        final InetAddress address = InetAddress.getByAddress(ADDRESS);
+
+        cache.get(address, Object.class, this::lookup);
+        cache.get(address, String.class, () -> String.valueOf(lookup()));
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void testSizeZeroDoesNotCache() throws IOException {
+        final LookupCache cache = new LookupCache(0);
+        final InetAddress address = InetAddress.getByAddress(ADDRESS);
+
+        final Object first = cache.get(address, Object.class, this::lookup);
+        final Object second = cache.get(address, Object.class, this::lookup);
+        assertNotSame(first, second);
+
+        assertNull(cache.get(address, Object.class, this::lookupNotFound));
+        assertNull(cache.get(address, Object.class, this::lookupNotFound));
+        assertEquals(4, lookups.get());
+    }
+
+    private Object lookup() {
+        lookups.incrementAndGet();
+        return new Object();
+    }
+
+    private Object lookupNotFound() {
+        lookups.incrementAndGet();
+        return null;
+    }
+}
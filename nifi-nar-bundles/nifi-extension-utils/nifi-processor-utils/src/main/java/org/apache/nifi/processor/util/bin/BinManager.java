@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,6 +39,13 @@ import org.apache.nifi.processor.ProcessSessionFactory;
 /**
  * This class is thread safe
  *
+ * <p>
+ * Bins are indexed by group identifier and, additionally, kept in the order in which they were created. Because a Bin's
+ * fullness can only change when a FlowFile is offered to it, only those Bins that have been offered FlowFiles since the
+ * last call to {@link #removeReadyBins(boolean)} need to be evaluated, and because the Bins are ordered by age, finding
+ * expired Bins or the oldest Bin does not require visiting every Bin. This keeps the cost of each call proportional to the
+ * number of Bins that changed rather than the total number of Bins, which matters when there are many distinct groups.
+ * </p>
  */
 public class BinManager {
 
@@ -48,6 +57,9 @@ public class BinManager {
 
     private final AtomicInteger maxBinAgeSeconds = new AtomicInteger(Integer.MAX_VALUE);
     private final Map<String, List<Bin>> groupBinMap = new HashMap<>();
+    private final Map<Bin, String> binGroups = new HashMap<>();
+    private final Set<Bin> binsByAge = new LinkedHashSet<>();
+    private final Set<Bin> modifiedBins = new HashSet<>();
     private final ReentrantReadWriteLock rwLock = new ReentrantReadWriteLock();
     private final Lock rLock = rwLock.readLock();
     private final Lock wLock = rwLock.writeLock();
@@ -66,6 +78,9 @@ public class BinManager {
                 }
             }
             groupBinMap.clear();
+            binGroups.clear();
+            binsByAge.clear();
+            modifiedBins.clear();
             binCount = 0;
         } finally {
             wLock.unlock();
@@ -127,30 +142,19 @@ public class BinManager {
         }
         wLock.lock();
         try {
-            final List<Bin> currentBins = groupBinMap.get(groupIdentifier);
-            if (currentBins == null) { // this is a new group we need to register
-                final List<Bin> bins = new ArrayList<>();
-                final Bin bin = new Bin(sessionFactory.createSession(), minSizeBytes.get(), currentMaxSizeBytes, minEntries.get(),
-                    maxEntries.get(), fileCountAttribute.get());
-                bins.add(bin);
-                groupBinMap.put(groupIdentifier, bins);
-                binCount++;
-                return bin.offer(flowFile, session);
-            } else {
-                for (final Bin bin : currentBins) {
-                    final boolean accepted = bin.offer(flowFile, session);
-                    if (accepted) {
-                        return true;
-                    }
+            final List<Bin> currentBins = groupBinMap.computeIfAbsent(groupIdentifier, k -> new ArrayList<>());
+            for (final Bin bin : currentBins) {
+                final boolean accepted = bin.offer(flowFile, session);
+                modifiedBins.add(bin);
+                if (accepted) {
+                    return true;
                 }
-
-                //if we've reached this point then we couldn't fit it into any existing bins - gotta make a new one
-                final Bin bin = new Bin(sessionFactory.createSession(), minSizeBytes.get(), currentMaxSizeBytes, minEntries.get(),
-                    maxEntries.get(), fileCountAttribute.get());
-                currentBins.add(bin);
-                binCount++;
-                return bin.offer(flowFile, session);
             }
+
+            // if we've reached this point then the groupIdentifier was a brand new one,
+            // or we couldn't fit it into any existing bins - gotta make a new one
+            final Bin bin = createBin(groupIdentifier, currentBins, sessionFactory, currentMaxSizeBytes);
+            return bin.offer(flowFile, session);
         } finally {
             wLock.unlock();
         }
@@ -182,6 +186,7 @@ public class BinManager {
                 final List<Bin> currentBins = groupBinMap.computeIfAbsent(groupIdentifier, k -> new ArrayList<>());
                 for (final Bin bin : currentBins) {
                     final boolean accepted = bin.offer(flowFile, session);
+                    modifiedBins.add(bin);
                     if (accepted) {
                         continue flowFileLoop;
                     }
@@ -189,10 +194,7 @@ public class BinManager {
 
                 // if we've reached this point then the groupIdentifier was a brand new one,
                 // or we couldn't fit it into any existing bins - gotta make a new one
-                final Bin bin = new Bin(sessionFactory.createSession(), minSizeBytes.get(), currentMaxSizeBytes, minEntries.get(),
-                    maxEntries.get(), fileCountAttribute.get());
-                currentBins.add(bin);
-                binCount++;
+                final Bin bin = createBin(groupIdentifier, currentBins, sessionFactory, currentMaxSizeBytes);
                 final boolean added = bin.offer(flowFile, session);
                 if (!added) {
                     unbinned.add(flowFile);
@@ -206,6 +208,38 @@ public class BinManager {
         return unbinned;
     }
 
+    /**
+     * Creates a new Bin for the given group and registers it with the manager. Must be called while holding the write lock.
+     */
+    private Bin createBin(final String groupIdentifier, final List<Bin> groupBins, final ProcessSessionFactory sessionFactory, final long currentMaxSizeBytes) {
+        final Bin bin = new Bin(sessionFactory.createSession(), minSizeBytes.get(), currentMaxSizeBytes, minEntries.get(),
+            maxEntries.get(), fileCountAttribute.get());
+        groupBins.add(bin);
+        binGroups.put(bin, groupIdentifier);
+        binsByAge.add(bin);
+        modifiedBins.add(bin);
+        binCount++;
+        return bin;
+    }
+
+    /**
+     * Removes the given Bin from all indices. Must be called while holding the write lock.
+     */
+    private void removeBin(final Bin bin) {
+        final String groupIdentifier = binGroups.remove(bin);
+        final List<Bin> bins = groupBinMap.get(groupIdentifier);
+        if (bins != null) {
+            bins.remove(bin);
+            if (bins.isEmpty()) {
+                groupBinMap.remove(groupIdentifier);
+            }
+        }
+
+        binsByAge.remove(bin);
+        modifiedBins.remove(bin);
+        binCount--;
+    }
+
     /**
      * Finds all bins that are considered full and removes them from the manager.
      * <p/>
@@ -214,29 +248,42 @@ public class BinManager {
      * @return bins that are considered full
      */
     public Collection<Bin> removeReadyBins(boolean relaxFullnessConstraint) {
-        final Map<String, List<Bin>> newGroupMap = new HashMap<>();
-        final List<Bin> readyBins = new ArrayList<>();
+        final Set<Bin> readyBins = new LinkedHashSet<>();
 
         wLock.lock();
         try {
-            for (final Map.Entry<String, List<Bin>> group : groupBinMap.entrySet()) {
-                final List<Bin> remainingBins = new ArrayList<>();
-                for (final Bin bin : group.getValue()) {
-                    if (relaxFullnessConstraint && (bin.isFullEnough() || bin.isOlderThan(maxBinAgeSeconds.get(), TimeUnit.SECONDS))) { //relaxed check
-                        readyBins.add(bin);
-                    } else if (!relaxFullnessConstraint && bin.isFull()) { //strict check
-                        readyBins.add(bin);
-                    } else { //it isn't time yet...
-                        remainingBins.add(bin);
+            if (relaxFullnessConstraint) {
+                // Bins are ordered oldest first, so we can stop as soon as we encounter one that is not yet old enough.
+                final int maxAgeSeconds = maxBinAgeSeconds.get();
+                for (final Bin bin : binsByAge) {
+                    if (!bin.isOlderThan(maxAgeSeconds, TimeUnit.SECONDS)) {
+                        break;
                     }
+                    readyBins.add(bin);
                 }
-                if (!remainingBins.isEmpty()) {
-                    newGroupMap.put(group.getKey(), remainingBins);
+            }
+
+            // A Bin's fullness changes only when a FlowFile is offered to it, so only those Bins need to be checked.
+            final Iterator<Bin> modifiedItr = modifiedBins.iterator();
+            while (modifiedItr.hasNext()) {
+                final Bin bin = modifiedItr.next();
+                if (relaxFullnessConstraint) {
+                    if (bin.isFullEnough()) {
+                        readyBins.add(bin);
+                    }
+                    modifiedItr.remove();
+                } else if (bin.isFull()) {
+                    readyBins.add(bin);
+                    modifiedItr.remove();
+                } else if (!bin.isFullEnough()) {
+                    // Bins that are full enough must be re-evaluated if the fullness constraint is later relaxed.
+                    modifiedItr.remove();
                 }
             }
-            groupBinMap.clear();
-            groupBinMap.putAll(newGroupMap);
-            binCount -= readyBins.size();
+
+            for (final Bin bin : readyBins) {
+                removeBin(bin);
+            }
         } finally {
             wLock.unlock();
         }
@@ -246,28 +293,13 @@ public class BinManager {
     public Bin removeOldestBin() {
         wLock.lock();
         try {
-            Bin oldestBin = null;
-            String oldestBinGroup = null;
-
-            for (final Map.Entry<String, List<Bin>> group : groupBinMap.entrySet()) {
-                for (final Bin bin : group.getValue()) {
-                    if (oldestBin == null || bin.isOlderThan(oldestBin)) {
-                        oldestBin = bin;
-                        oldestBinGroup = group.getKey();
-                    }
-                }
-            }
-
-            if (oldestBin == null) {
+            final Iterator<Bin> itr = binsByAge.iterator();
+            if (!itr.hasNext()) {
                 return null;
             }
 
-            binCount--;
-            final List<Bin> bins = groupBinMap.get(oldestBinGroup);
-            bins.remove(oldestBin);
-            if (bins.isEmpty()) {
-                groupBinMap.remove(oldestBinGroup);
-            }
+            final Bin oldestBin = itr.next();
+            removeBin(oldestBin);
             return oldestBin;
         } finally {
             wLock.unlock();
@@ -280,16 +312,10 @@ public class BinManager {
     public boolean containsOldBins() {
         rLock.lock();
         try {
-            for (final List<Bin> bins : groupBinMap.values()) {
-                for (final Bin bin : bins) {
-                    if (bin.isOlderThan(maxBinAgeSeconds.get(), TimeUnit.SECONDS)) {
-                        return true;
-                    }
-                }
-            }
+            final Iterator<Bin> itr = binsByAge.iterator();
+            return itr.hasNext() && itr.next().isOlderThan(maxBinAgeSeconds.get(), TimeUnit.SECONDS);
         } finally {
             rLock.unlock();
         }
-        return false;
     }
 }
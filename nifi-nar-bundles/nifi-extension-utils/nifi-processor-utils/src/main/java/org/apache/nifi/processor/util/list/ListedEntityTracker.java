@@ -20,6 +20,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.nifi.components.AllowableValue;
 import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.components.PropertyValue;
 import org.apache.nifi.components.ValidationContext;
 import org.apache.nifi.components.ValidationResult;
 import org.apache.nifi.components.state.Scope;
@@ -45,11 +46,14 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -63,7 +67,7 @@ import static org.apache.nifi.processor.util.list.AbstractListProcessor.REL_SUCC
 public class ListedEntityTracker<T extends ListableEntity> {
 
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private volatile Map<String, ListedEntity> alreadyListedEntities;
+    private volatile List<Map<String, ListedEntity>> alreadyListedEntities;
 
     private static final String NOTE = "Used by 'Tracking Entities' strategy.";
     public static final PropertyDescriptor TRACKING_STATE_CACHE = new PropertyDescriptor.Builder()
@@ -100,6 +104,21 @@ public class ListedEntityTracker<T extends ListableEntity> {
             .defaultValue("3 hours")
             .build();
 
+    public static final PropertyDescriptor TRACKING_STATE_PARTITIONS = new PropertyDescriptor.Builder()
+            .name("et-state-partitions")
+            .displayName("Entity Tracking State Partitions")
+            .description(format("The number of partitions to split the already-listed entities into when storing them in the 'Entity Tracking State Cache'." +
+                    " Each partition is stored as a separate cache entry, and only the partitions containing entities that were added, updated or removed" +
+                    " are written back to the cache after each listing. When tracking a large number of entities, a larger value significantly reduces" +
+                    " the amount of data that must be serialized and transferred after each listing." +
+                    " If set to 1, all entities are stored in a single cache entry with the key described by 'Entity Tracking State Cache'." +
+                    " Otherwise, the partitions are stored with the keys '{cacheKey}::partition::{index}', and the number of partitions is stored" +
+                    " with the key '{cacheKey}::partitions'. Changing this value re-partitions the already-listed entities without listing them again." +
+                    " %s", NOTE))
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .defaultValue("1")
+            .build();
+
     private static final AllowableValue INITIAL_LISTING_TARGET_ALL = new AllowableValue("all", "All Available",
             "Regardless of entities timestamp, all existing entities will be listed at the initial listing activity.");
     private static final AllowableValue INITIAL_LISTING_TARGET_WINDOW = new AllowableValue("window", "Tracking Time Window",
@@ -137,6 +156,8 @@ public class ListedEntityTracker<T extends ListableEntity> {
         gzipOutputStream.finish();
     };
 
+    private final Deserializer<String> stringDeserializer = v -> v == null || v.length == 0 ? null : new String(v, StandardCharsets.UTF_8);
+
     private final Deserializer<Map<String, ListedEntity>> listedEntitiesDeserializer = v -> {
         if (v == null || v.length == 0) {
             return null;
@@ -158,6 +179,13 @@ public class ListedEntityTracker<T extends ListableEntity> {
     private String nodeId;
     private DistributedMapCacheClient mapCacheClient;
 
+    /*
+     * The number of partitions that the already-listed entities are currently split into, and the number of partitions
+     * that are currently stored in the cache, where 0 indicates that nothing has been stored yet.
+     */
+    private int partitionCount = 1;
+    private int storedPartitionCount = 0;
+
     ListedEntityTracker(final String componentId, final ComponentLog logger, final RecordSchema recordSchema) {
         this(componentId, logger, DEFAULT_CURRENT_TIMESTAMP_SUPPLIER, recordSchema);
     }
@@ -209,16 +237,122 @@ public class ListedEntityTracker<T extends ListableEntity> {
         throw new IllegalArgumentException("Unknown scope: " + scope);
     }
 
-    private void persistListedEntities(Map<String, ListedEntity> listedEntities) throws IOException {
+    private String getPartitionCountKey(final String cacheKey) {
+        return format("%s::partitions", cacheKey);
+    }
+
+    private String getPartitionKey(final String cacheKey, final int partition) {
+        return format("%s::partition::%d", cacheKey, partition);
+    }
+
+    private static int getPartition(final String identifier, final int partitionCount) {
+        return Math.floorMod(identifier.hashCode(), partitionCount);
+    }
+
+    private static List<Map<String, ListedEntity>> createPartitions(final int partitionCount) {
+        final List<Map<String, ListedEntity>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ConcurrentHashMap<>());
+        }
+        return partitions;
+    }
+
+    private ListedEntity getAlreadyListedEntity(final String identifier) {
+        return alreadyListedEntities.get(getPartition(identifier, partitionCount)).get(identifier);
+    }
+
+    private void putAlreadyListedEntity(final String identifier, final ListedEntity listedEntity, final Set<Integer> modifiedPartitions) {
+        final int partition = getPartition(identifier, partitionCount);
+        alreadyListedEntities.get(partition).put(identifier, listedEntity);
+        modifiedPartitions.add(partition);
+    }
+
+    /**
+     * Splits the given entities into the given number of partitions.
+     */
+    private static List<Map<String, ListedEntity>> partition(final Map<String, ListedEntity> listedEntities, final int partitionCount) {
+        final List<Map<String, ListedEntity>> partitions = createPartitions(partitionCount);
+        listedEntities.forEach((identifier, listedEntity) -> partitions.get(getPartition(identifier, partitionCount)).put(identifier, listedEntity));
+        return partitions;
+    }
+
+    private void persistListedEntities(final Set<Integer> modifiedPartitions) throws IOException {
+        final String cacheKey = getCacheKey();
+
+        if (partitionCount == 1) {
+            final Map<String, ListedEntity> listedEntities = alreadyListedEntities.get(0);
+            logger.debug("Persisting listed entities: {}={}", new Object[]{cacheKey, listedEntities});
+            mapCacheClient.put(cacheKey, listedEntities, stringSerializer, listedEntitiesSerializer);
+
+            if (storedPartitionCount > 1) {
+                mapCacheClient.remove(getPartitionCountKey(cacheKey), stringSerializer);
+                removePartitions(cacheKey, 0, storedPartitionCount);
+            }
+        } else {
+            // If the partitioning has changed, every partition must be written.
+            final boolean partitioningChanged = storedPartitionCount != partitionCount;
+            for (int i = 0; i < partitionCount; i++) {
+                if (partitioningChanged || modifiedPartitions.contains(i)) {
+                    final String partitionKey = getPartitionKey(cacheKey, i);
+                    final Map<String, ListedEntity> listedEntities = alreadyListedEntities.get(i);
+                    logger.debug("Persisting listed entities: {}={}", new Object[]{partitionKey, listedEntities});
+                    mapCacheClient.put(partitionKey, listedEntities, stringSerializer, listedEntitiesSerializer);
+                }
+            }
+
+            if (partitioningChanged) {
+                // Write the number of partitions only after all of the partitions have been written
+                mapCacheClient.put(getPartitionCountKey(cacheKey), String.valueOf(partitionCount), stringSerializer, stringSerializer);
+
+                if (storedPartitionCount == 1) {
+                    mapCacheClient.remove(cacheKey, stringSerializer);
+                } else if (storedPartitionCount > partitionCount) {
+                    removePartitions(cacheKey, partitionCount, storedPartitionCount);
+                }
+            }
+        }
+
+        storedPartitionCount = partitionCount;
+    }
+
+    private void removePartitions(final String cacheKey, final int fromPartition, final int toPartition) throws IOException {
+        for (int i = fromPartition; i < toPartition; i++) {
+            mapCacheClient.remove(getPartitionKey(cacheKey, i), stringSerializer);
+        }
+    }
+
+    private int fetchStoredPartitionCount() throws IOException {
         final String cacheKey = getCacheKey();
-        logger.debug("Persisting listed entities: {}={}", new Object[]{cacheKey, listedEntities});
-        mapCacheClient.put(cacheKey, listedEntities, stringSerializer, listedEntitiesSerializer);
+        final String partitionCountValue = mapCacheClient.get(getPartitionCountKey(cacheKey), stringSerializer, stringDeserializer);
+        if (partitionCountValue != null) {
+            return Integer.parseInt(partitionCountValue);
+        }
+
+        return mapCacheClient.containsKey(cacheKey, stringSerializer) ? 1 : 0;
     }
 
     private Map<String, ListedEntity> fetchListedEntities() throws IOException {
         final String cacheKey = getCacheKey();
-        final Map<String, ListedEntity> listedEntities = mapCacheClient.get(cacheKey, stringSerializer, listedEntitiesDeserializer);
-        logger.debug("Fetched listed entities: {}={}", new Object[]{cacheKey, listedEntities});
+        final String partitionCountValue = mapCacheClient.get(getPartitionCountKey(cacheKey), stringSerializer, stringDeserializer);
+        if (partitionCountValue == null) {
+            final Map<String, ListedEntity> listedEntities = mapCacheClient.get(cacheKey, stringSerializer, listedEntitiesDeserializer);
+            logger.debug("Fetched listed entities: {}={}", new Object[]{cacheKey, listedEntities});
+            storedPartitionCount = listedEntities == null ? 0 : 1;
+            return listedEntities;
+        }
+
+        final int fetchedPartitionCount = Integer.parseInt(partitionCountValue);
+        final Map<String, ListedEntity> listedEntities = new HashMap<>();
+        for (int i = 0; i < fetchedPartitionCount; i++) {
+            final String partitionKey = getPartitionKey(cacheKey, i);
+            final Map<String, ListedEntity> partition = mapCacheClient.get(partitionKey, stringSerializer, listedEntitiesDeserializer);
+            logger.debug("Fetched listed entities: {}={}", new Object[]{partitionKey, partition});
+            if (partition != null) {
+                listedEntities.putAll(partition);
+            }
+        }
+
+        storedPartitionCount = fetchedPartitionCount;
         return listedEntities;
     }
 
@@ -227,10 +361,22 @@ public class ListedEntityTracker<T extends ListableEntity> {
         if (mapCacheClient != null) {
             final String cacheKey = getCacheKey();
             logger.debug("Removing listed entities from cache storage: {}", new Object[]{cacheKey});
+            final int fetchedPartitionCount = fetchStoredPartitionCount();
+            if (fetchedPartitionCount > 1) {
+                mapCacheClient.remove(getPartitionCountKey(cacheKey), stringSerializer);
+                removePartitions(cacheKey, 0, fetchedPartitionCount);
+            }
             mapCacheClient.remove(cacheKey, stringSerializer);
+            storedPartitionCount = 0;
         }
     }
 
+    private static int getConfiguredPartitionCount(final ProcessContext context) {
+        final PropertyValue partitionsValue = context.getProperty(TRACKING_STATE_PARTITIONS);
+        final Integer partitions = partitionsValue == null ? null : partitionsValue.asInteger();
+        return partitions == null ? 1 : partitions;
+    }
+
     public void trackEntities(ProcessContext context, ProcessSession session,
                               boolean justElectedPrimaryNode,
                               Scope scope,
@@ -246,20 +392,28 @@ public class ListedEntityTracker<T extends ListableEntity> {
             nodeId = null;
         }
 
+        final int configuredPartitionCount = getConfiguredPartitionCount(context);
         if (alreadyListedEntities == null || justElectedPrimaryNode) {
             logger.info(justElectedPrimaryNode ? "Just elected as Primary node, restoring already-listed entities." : "At the first onTrigger, restoring already-listed entities.");
 
             try {
+                partitionCount = configuredPartitionCount;
                 final Map<String, ListedEntity> fetchedListedEntities = fetchListedEntities();
                 if (fetchedListedEntities == null) {
-                    this.alreadyListedEntities = new ConcurrentHashMap<>();
+                    this.alreadyListedEntities = createPartitions(partitionCount);
                     initialListing = true;
                 } else {
-                    this.alreadyListedEntities = new ConcurrentHashMap<>(fetchedListedEntities);
+                    this.alreadyListedEntities = partition(fetchedListedEntities, partitionCount);
                 }
             } catch (IOException e) {
                 throw new ProcessException("Failed to restore already-listed entities due to " + e, e);
             }
+        } else if (configuredPartitionCount != partitionCount) {
+            logger.info("Re-partitioning already-listed entities from {} partitions into {} partitions", new Object[]{partitionCount, configuredPartitionCount});
+            final Map<String, ListedEntity> listedEntities = new HashMap<>();
+            alreadyListedEntities.forEach(listedEntities::putAll);
+            this.alreadyListedEntities = partition(listedEntities, configuredPartitionCount);
+            this.partitionCount = configuredPartitionCount;
         }
 
         final long currentTimeMillis = currentTimestampSupplier.get();
@@ -285,7 +439,7 @@ public class ListedEntityTracker<T extends ListableEntity> {
                 return false;
             }
 
-            final ListedEntity alreadyListedEntity = alreadyListedEntities.get(identifier);
+            final ListedEntity alreadyListedEntity = getAlreadyListedEntity(identifier);
             if (alreadyListedEntity == null) {
                 logger.trace("Picked {} being newly found.", new Object[]{identifier});
                 return true;
@@ -306,45 +460,55 @@ public class ListedEntityTracker<T extends ListableEntity> {
         }).collect(Collectors.toList());
 
         // Find old enough entries.
-        final List<String> oldEntityIds = alreadyListedEntities.entrySet().stream()
+        final List<String> oldEntityIds = alreadyListedEntities.stream()
+                .flatMap(partition -> partition.entrySet().stream())
                 .filter(entry -> entry.getValue().getTimestamp() < minTimestampToList).map(Map.Entry::getKey)
                 .collect(Collectors.toList());
 
-        if (updatedEntities.isEmpty() && oldEntityIds.isEmpty()) {
+        // If the stored entities were partitioned differently, they need to be re-written even if nothing has changed.
+        final boolean partitioningChanged = storedPartitionCount != 0 && storedPartitionCount != partitionCount;
+        if (updatedEntities.isEmpty() && oldEntityIds.isEmpty() && !partitioningChanged) {
             logger.debug("None of updated or old entity was found. Yielding.");
             context.yield();
             return;
         }
 
-        // Remove old entries.
-        oldEntityIds.forEach(oldEntityId -> alreadyListedEntities.remove(oldEntityId));
+        // Remove old entries, keeping track of which partitions have been modified.
+        final Set<Integer> modifiedPartitions = new HashSet<>();
+        oldEntityIds.forEach(oldEntityId -> {
+            final int partition = getPartition(oldEntityId, partitionCount);
+            alreadyListedEntities.get(partition).remove(oldEntityId);
+            modifiedPartitions.add(partition);
+        });
 
         // Emit updated entities.
         if (context.getProperty(AbstractListProcessor.RECORD_WRITER).isSet()) {
             try {
-                createRecordsForEntities(context, session, updatedEntities);
+                createRecordsForEntities(context, session, updatedEntities, modifiedPartitions);
             } catch (final IOException | SchemaNotFoundException e) {
                 logger.error("Failed to create records for listed entities", e);
             }
         } else {
-            createFlowFilesForEntities(session, updatedEntities, createAttributes);
+            createFlowFilesForEntities(session, updatedEntities, createAttributes, modifiedPartitions);
         }
 
         // Commit ProcessSession before persisting listed entities.
         // In case persisting listed entities failure, same entities may be listed again, but better than not listing.
         session.commit();
         try {
-            logger.debug("Removed old entities count: {}, Updated entities count: {}", new Object[]{oldEntityIds.size(), updatedEntities.size()});
+            logger.debug("Removed old entities count: {}, Updated entities count: {}, Modified partitions count: {}",
+                    new Object[]{oldEntityIds.size(), updatedEntities.size(), modifiedPartitions.size()});
             logger.trace("Removed old entities: {}, Updated entities: {}", new Object[]{oldEntityIds, updatedEntities});
 
-            persistListedEntities(alreadyListedEntities);
+            persistListedEntities(modifiedPartitions);
         } catch (IOException e) {
             throw new ProcessException("Failed to persist already-listed entities due to " + e, e);
         }
 
     }
 
-    private void createRecordsForEntities(final ProcessContext context, final ProcessSession session, final List<T> updatedEntities) throws IOException, SchemaNotFoundException {
+    private void createRecordsForEntities(final ProcessContext context, final ProcessSession session, final List<T> updatedEntities,
+                                          final Set<Integer> modifiedPartitions) throws IOException, SchemaNotFoundException {
         if (updatedEntities.isEmpty()) {
             logger.debug("No entities to write records for");
             return;
@@ -363,7 +527,7 @@ public class ListedEntityTracker<T extends ListableEntity> {
 
                 // In order to reduce object size, discard meta data captured at the sub-classes.
                 final ListedEntity listedEntity = new ListedEntity(updatedEntity.getTimestamp(), updatedEntity.getSize());
-                alreadyListedEntities.put(updatedEntity.getIdentifier(), listedEntity);
+                putAlreadyListedEntity(updatedEntity.getIdentifier(), listedEntity, modifiedPartitions);
             }
 
             writeResult = recordSetWriter.finishRecordSet();
@@ -376,14 +540,15 @@ public class ListedEntityTracker<T extends ListableEntity> {
         session.transfer(flowFile, REL_SUCCESS);
     }
 
-    private void createFlowFilesForEntities(final ProcessSession session, final List<T> updatedEntities, final Function<T, Map<String, String>> createAttributes) {
+    private void createFlowFilesForEntities(final ProcessSession session, final List<T> updatedEntities, final Function<T, Map<String, String>> createAttributes,
+                                            final Set<Integer> modifiedPartitions) {
         for (T updatedEntity : updatedEntities) {
             FlowFile flowFile = session.create();
             flowFile = session.putAllAttributes(flowFile, createAttributes.apply(updatedEntity));
             session.transfer(flowFile, REL_SUCCESS);
             // In order to reduce object size, discard meta data captured at the sub-classes.
             final ListedEntity listedEntity = new ListedEntity(updatedEntity.getTimestamp(), updatedEntity.getSize());
-            alreadyListedEntities.put(updatedEntity.getIdentifier(), listedEntity);
+            putAlreadyListedEntity(updatedEntity.getIdentifier(), listedEntity, modifiedPartitions);
         }
     }
 
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processor.util.bin;
+
+import org.apache.nifi.flowfile.FlowFile;
+import org.apache.nifi.processor.AbstractProcessor;
+import org.apache.nifi.processor.ProcessContext;
+import org.apache.nifi.processor.ProcessSession;
+import org.apache.nifi.processor.ProcessSessionFactory;
+import org.apache.nifi.processor.Processor;
+import org.apache.nifi.util.MockProcessSession;
+import org.apache.nifi.util.SharedSessionState;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TestBinManager {
+
+    private SharedSessionState sharedState;
+    private Processor processor;
+    private ProcessSessionFactory sessionFactory;
+
+    @Before
+    public void setup() {
+        processor = new AbstractProcessor() {
+            @Override
+            public void onTrigger(final ProcessContext context, final ProcessSession session) {
+            }
+        };
+
+        sharedState = new SharedSessionState(processor, new AtomicLong(0L));
+        sessionFactory = () -> new MockProcessSession(sharedState, processor);
+    }
+
+    @Test
+    public void testFullBinsAreReady() {
+        final BinManager binManager = new BinManager();
+        binManager.setMaximumEntries(2);
+
+        final ProcessSession session = sessionFactory.createSession();
+        assertTrue(binManager.offer("a", createFlowFile(session), session, sessionFactory));
+        assertTrue(binManager.offer("b", createFlowFile(session), session, sessionFactory));
+        assertTrue(binManager.offer("a", createFlowFile(session), session, sessionFactory));
+        assertEquals(2, binManager.getBinCount());
+
+        final Collection<Bin> readyBins = binManager.removeReadyBins(false);
+        assertEquals(1, readyBins.size());
+        assertEquals(2, readyBins.iterator().next().getContents().size());
+        assertEquals(1, binManager.getBinCount());
+
+        // The remaining bin has not been modified, so it should still not be considered ready
+        assertTrue(binManager.removeReadyBins(false).isEmpty());
+
+        assertTrue(binManager.offer("b", createFlowFile(session), session, sessionFactory));
+        assertEquals(1, binManager.removeReadyBins(false).size());
+        assertEquals(0, binManager.getBinCount());
+    }
+
+    @Test
+    public void testFullEnoughBinsAreReadyWhenRelaxed() {
+        final BinManager binManager = new BinManager();
+        binManager.setMinimumEntries(1);
+        binManager.setMaximumEntries(10);
+
+        final ProcessSession session = sessionFactory.createSession();
+        assertTrue(binManager.offer("a", createFlowFile(session), session, sessionFactory));
+
+        assertTrue(binManager.removeReadyBins(false).isEmpty());
+        assertEquals(1, binManager.removeReadyBins(true).size());
+        assertEquals(0, binManager.getBinCount());
+    }
+
+    @Test
+    public void testOldBinsAreReady() throws InterruptedException {
+        final BinManager binManager = new BinManager();
+        binManager.setMinimumEntries(10);
+        binManager.setMaxBinAge(1);
+
+        final ProcessSession session = sessionFactory.createSession();
+        assertTrue(binManager.offer("a", createFlowFile(session), session, sessionFactory));
+        assertFalse(binManager.containsOldBins());
+        assertTrue(binManager.removeReadyBins(true).isEmpty());
+
+        Thread.sleep(1100L);
+        assertTrue(binManager.containsOldBins());
+        assertEquals(1, binManager.removeReadyBins(true).size());
+        assertFalse(binManager.containsOldBins());
+    }
+
+    @Test
+    public void testRemoveOldestBin() {
+        final BinManager binManager = new BinManager();
+        binManager.setMinimumEntries(10);
+
+        final ProcessSession session = sessionFactory.createSession();
+        assertTrue(binManager.offer("b", createFlowFile(session), session, sessionFactory));
+        assertTrue(binManager.offer("c", createFlowFile(session), session, sessionFactory));
+        assertTrue(binManager.offer("b", createFlowFile(session), session, sessionFactory));
+
+        final Bin binB = binManager.removeOldestBin();
+        assertEquals(2, binB.getContents().size());
+        final Bin binC = binManager.removeOldestBin();
+        assertEquals(1, binC.getContents().size());
+        assertNull(binManager.removeOldestBin());
+        assertEquals(0, binManager.getBinCount());
+
+        // Group 'b' should have been removed along with its last bin, so a new bin must be created
+        assertTrue(binManager.offer("b", createFlowFile(session), session, sessionFactory));
+        assertEquals(1, binManager.getBinCount());
+        assertEquals(1, binManager.removeOldestBin().getContents().size());
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testPerformanceWithManyGroups() {
+        final int groupCount = 1_000_000;
+        final int iterations = 5;
+
+        final BinManager binManager = new BinManager();
+        binManager.setMinimumEntries(2);
+        binManager.setMaximumEntries(2);
+        binManager.setMaxBinAge(3600);
+
+        final ProcessSession session = sessionFactory.createSession();
+        for (int i = 0; i < groupCount; i++) {
+            binManager.offer(String.valueOf(i), createFlowFile(session), session, sessionFactory);
+        }
+
+        for (int iteration = 0; iteration < iterations; iteration++) {
+            final long start = System.nanoTime();
+            int readyCount = 0;
+            for (int i = 0; i < 1000; i++) {
+                final String group = String.valueOf(iteration * 1000 + i);
+                binManager.offer(group, createFlowFile(session), session, sessionFactory);
+                readyCount += binManager.removeReadyBins(true).size();
+                binManager.containsOldBins();
+            }
+
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.println("Completed " + readyCount + " bins across " + binManager.getBinCount() + " open bins in " + millis + " millis");
+        }
+    }
+
+    private FlowFile createFlowFile(final ProcessSession session) {
+        return session.putAttribute(session.create(), "size", "0");
+    }
+}
@@ -38,11 +38,14 @@ import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.nifi.state.MockStateManager;
+import org.apache.nifi.stream.io.ByteCountingOutputStream;
+import org.apache.nifi.stream.io.NullOutputStream;
 import org.apache.nifi.util.MockFlowFile;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -53,10 +56,13 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -65,6 +71,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class TestAbstractListProcessor {
 
@@ -311,8 +318,149 @@ public class TestAbstractListProcessor {
         assertEquals(6, runner.getFlowFilesForRelationship(AbstractListProcessor.REL_SUCCESS).size());
     }
 
+    @Test
+    public void testEntityTrackingStrategyWithPartitions() throws InitializationException {
+        runner.setProperty(AbstractListProcessor.LISTING_STRATEGY, AbstractListProcessor.BY_ENTITIES);
+
+        final DistributedCache trackingCache = new DistributedCache();
+        runner.addControllerService("tracking-cache", trackingCache);
+        runner.enableControllerService(trackingCache);
+
+        runner.setProperty(ListedEntityTracker.TRACKING_STATE_CACHE, "tracking-cache");
+        runner.setProperty(ListedEntityTracker.TRACKING_TIME_WINDOW, "10ms");
+        runner.setProperty(ListedEntityTracker.TRACKING_STATE_PARTITIONS, "4");
+        runner.assertValid();
+
+        proc.currentTimestamp.set(1L);
+        for (int i = 0; i < 8; i++) {
+            proc.addEntity("entity-" + i, "entity-" + i, 1, 1);
+        }
+        runner.run();
+        assertEquals(8, runner.getFlowFilesForRelationship(AbstractListProcessor.REL_SUCCESS).size());
+
+        // All partitions and the number of partitions should have been stored
+        final String partitionCountKey = trackingCache.stored.keySet().stream()
+            .map(Object::toString)
+            .filter(key -> key.endsWith("::partitions"))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("Number of partitions was not stored"));
+        final String cacheKey = partitionCountKey.substring(0, partitionCountKey.length() - "::partitions".length());
+        assertEquals("4", trackingCache.stored.get(partitionCountKey));
+        assertEquals(5, trackingCache.stored.size());
+
+        // Only the partition containing the new entity should be written
+        trackingCache.putKeys.clear();
+        proc.currentTimestamp.set(2L);
+        proc.addEntity("entity-new", "entity-new", 2, 1);
+        runner.clearTransferState();
+        runner.run();
+        assertEquals(1, runner.getFlowFilesForRelationship(AbstractListProcessor.REL_SUCCESS).size());
+        final int partition = Math.floorMod("entity-new".hashCode(), 4);
+        assertEquals(Collections.singletonList(cacheKey + "::partition::" + partition), trackingCache.putKeys);
+
+        // Nothing has changed, so nothing should be written
+        trackingCache.putKeys.clear();
+        proc.currentTimestamp.set(3L);
+        runner.clearTransferState();
+        runner.run();
+        assertEquals(0, runner.getFlowFilesForRelationship(AbstractListProcessor.REL_SUCCESS).size());
+        assertEquals(0, trackingCache.putKeys.size());
+
+        // Resetting state should remove all of the partitions before the entities are listed and stored again
+        final List<String> partitionKeys = new ArrayList<>();
+        partitionKeys.add(partitionCountKey);
+        for (int i = 0; i < 4; i++) {
+            partitionKeys.add(cacheKey + "::partition::" + i);
+        }
+
+        trackingCache.putKeys.clear();
+        runner.setProperty(ConcreteListProcessor.RESET_STATE, "1");
+        proc.currentTimestamp.set(4L);
+        runner.clearTransferState();
+        runner.run();
+        assertEquals(9, runner.getFlowFilesForRelationship(AbstractListProcessor.REL_SUCCESS).size());
+        assertTrue(trackingCache.removedKeys.containsAll(partitionKeys));
+        assertTrue(trackingCache.putKeys.containsAll(partitionKeys));
+        assertEquals(new HashSet<>(partitionKeys), trackingCache.stored.keySet());
+
+        final Set<String> trackedIdentifiers = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            trackedIdentifiers.addAll(((Map<?, ?>) trackingCache.stored.get(cacheKey + "::partition::" + i)).keySet().stream()
+                .map(Object::toString)
+                .collect(Collectors.toSet()));
+        }
+        final Set<String> expectedIdentifiers = new HashSet<>();
+        for (int i = 0; i < 8; i++) {
+            expectedIdentifiers.add("entity-" + i);
+        }
+        expectedIdentifiers.add("entity-new");
+        assertEquals(expectedIdentifiers, trackedIdentifiers);
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance of entity tracking with different numbers of partitions")
+    public void testEntityTrackingPerformanceWithPartitions() throws InitializationException {
+        final int entityCount = 10_000_000;
+        final int newEntitiesPerCycle = 1_000;
+        final int cycles = 5;
+
+        for (final int partitions : new int[] {1, 64, 1024}) {
+            proc = new ConcreteListProcessor();
+            runner = TestRunners.newTestRunner(proc);
+            runner.setProperty(AbstractListProcessor.LISTING_STRATEGY, AbstractListProcessor.BY_ENTITIES);
+
+            final SerializingDistributedCache trackingCache = new SerializingDistributedCache();
+            runner.addControllerService("tracking-cache", trackingCache);
+            runner.enableControllerService(trackingCache);
+            runner.setProperty(ListedEntityTracker.TRACKING_STATE_CACHE, "tracking-cache");
+            runner.setProperty(ListedEntityTracker.TRACKING_TIME_WINDOW, "1 hour");
+            runner.setProperty(ListedEntityTracker.TRACKING_STATE_PARTITIONS, String.valueOf(partitions));
+
+            proc.currentTimestamp.set(1L);
+            for (int i = 0; i < entityCount; i++) {
+                proc.addEntity("entity-" + i, "entity-" + i, 1, 1);
+            }
+            runner.run();
+
+            for (int cycle = 0; cycle < cycles; cycle++) {
+                for (int i = 0; i < newEntitiesPerCycle; i++) {
+                    final String identifier = "entity-" + cycle + "-" + i;
+                    proc.addEntity(identifier, identifier, 2, 1);
+                }
+
+                trackingCache.bytesWritten = 0L;
+                proc.currentTimestamp.set(2L + cycle);
+                runner.clearTransferState();
+
+                final long start = System.nanoTime();
+                runner.run();
+                final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                System.out.println("With " + partitions + " partitions, listing cycle took " + millis + " millis and wrote " + trackingCache.bytesWritten + " bytes to the cache");
+            }
+        }
+    }
+
+    /**
+     * A DistributedCache that also serializes the values that are stored in order to measure how much data is written.
+     */
+    static class SerializingDistributedCache extends DistributedCache {
+        private long bytesWritten = 0L;
+
+        @Override
+        public <K, V> void put(K key, V value, Serializer<K> keySerializer, Serializer<V> valueSerializer) throws IOException {
+            try (final ByteCountingOutputStream out = new ByteCountingOutputStream(new NullOutputStream())) {
+                valueSerializer.serialize(value, out);
+                bytesWritten += out.getBytesWritten();
+            }
+
+            super.put(key, value, keySerializer, valueSerializer);
+        }
+    }
+
     static class DistributedCache extends AbstractControllerService implements DistributedMapCacheClient {
         private final Map<Object, Object> stored = new HashMap<>();
+        private final List<Object> putKeys = new ArrayList<>();
+        private final List<Object> removedKeys = new ArrayList<>();
         private int fetchCount = 0;
 
         @Override
@@ -332,6 +480,7 @@ public class TestAbstractListProcessor {
 
         @Override
         public <K, V> void put(K key, V value, Serializer<K> keySerializer, Serializer<V> valueSerializer) throws IOException {
+            putKeys.add(key);
             stored.put(key, value);
         }
 
@@ -348,6 +497,7 @@ public class TestAbstractListProcessor {
 
         @Override
         public <K> boolean remove(K key, Serializer<K> serializer) throws IOException {
+            removedKeys.add(key);
             final Object value = stored.remove(key);
             return value != null;
         }
@@ -397,6 +547,7 @@ public class TestAbstractListProcessor {
             properties.add(TARGET_SYSTEM_TIMESTAMP_PRECISION);
             properties.add(ListedEntityTracker.TRACKING_STATE_CACHE);
             properties.add(ListedEntityTracker.TRACKING_TIME_WINDOW);
+            properties.add(ListedEntityTracker.TRACKING_STATE_PARTITIONS);
             properties.add(ListedEntityTracker.INITIAL_LISTING_TARGET);
             properties.add(RESET_STATE);
             return properties;
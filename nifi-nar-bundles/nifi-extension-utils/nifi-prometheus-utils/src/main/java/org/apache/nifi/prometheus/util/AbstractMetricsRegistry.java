@@ -50,4 +50,13 @@ public class AbstractMetricsRegistry {
 
         counter.labels(labels).inc(val);
     }
+
+    /**
+     * Removes all data points from this registry, so that components that have been removed or renamed since the
+     * data points were last set are no longer reported
+     */
+    public void clear() {
+        nameToGaugeMap.values().forEach(Gauge::clear);
+        nameToCounterMap.values().forEach(Counter::clear);
+    }
 }
@@ -646,7 +646,7 @@ public class AvroTypeUtil {
 
     private static Long getLongFromTimestamp(final Object rawValue, final Schema fieldSchema, final String fieldName) {
         final String format = AvroTypeUtil.determineDataType(fieldSchema).getFormat();
-        Timestamp t = DataTypeUtils.toTimestamp(rawValue, () -> DataTypeUtils.getDateFormat(format), fieldName);
+        Timestamp t = DataTypeUtils.toTimestamp(rawValue, () -> DataTypeUtils.getCachedDateFormat(format), fieldName);
         return t.getTime();
     }
 
@@ -665,11 +665,11 @@ public class AvroTypeUtil {
 
                 if (LOGICAL_TYPE_DATE.equals(logicalType.getName())) {
                     final String format = AvroTypeUtil.determineDataType(fieldSchema).getFormat();
-                    final java.sql.Date date = DataTypeUtils.toDate(rawValue, () -> DataTypeUtils.getDateFormat(format), fieldName);
+                    final java.sql.Date date = DataTypeUtils.toDate(rawValue, () -> DataTypeUtils.getCachedDateFormat(format), fieldName);
                     return (int) ChronoUnit.DAYS.between(Instant.EPOCH, Instant.ofEpochMilli(date.getTime()));
                 } else if (LOGICAL_TYPE_TIME_MILLIS.equals(logicalType.getName())) {
                     final String format = AvroTypeUtil.determineDataType(fieldSchema).getFormat();
-                    final Time time = DataTypeUtils.toTime(rawValue, () -> DataTypeUtils.getDateFormat(format), fieldName);
+                    final Time time = DataTypeUtils.toTime(rawValue, () -> DataTypeUtils.getCachedDateFormat(format), fieldName);
                     final Date date = new Date(time.getTime());
                     final Duration duration = Duration.between(date.toInstant().truncatedTo(ChronoUnit.DAYS), date.toInstant());
                     final long millisSinceMidnight = duration.toMillis();
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.controller.repository.metrics;
+
+import org.apache.nifi.controller.repository.FlowFileEvent;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running sum of FlowFileEvents, used for the aggregate of each component and for the aggregate of the whole repository. Every
+ * session commit adds to these, often from many threads concurrently, so each value is kept in a {@link LongAdder} rather than
+ * guarding all of them with a single lock. There are only a couple of these per component, so the extra memory of the adders
+ * does not matter, unlike for the many short-lived {@link EventSumValue}s that hold each second's events.
+ *
+ * A FlowFileEvent that is generated while values are being added may reflect only some of the values of an event that is
+ * concurrently being added, but once all additions have completed, the sum is exact.
+ */
+public class AggregateEventSumValue {
+    private volatile boolean empty = true;
+
+    private final LongAdder flowFilesIn = new LongAdder();
+    private final LongAdder flowFilesOut = new LongAdder();
+    private final LongAdder flowFilesRemoved = new LongAdder();
+    private final LongAdder flowFilesReceived = new LongAdder();
+    private final LongAdder flowFilesSent = new LongAdder();
+
+    private final LongAdder contentSizeIn = new LongAdder();
+    private final LongAdder contentSizeOut = new LongAdder();
+    private final LongAdder contentSizeRemoved = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder processingNanos = new LongAdder();
+    private final LongAdder aggregateLineageMillis = new LongAdder();
+    private final LongAdder invocations = new LongAdder();
+    private volatile ConcurrentMap<String, LongAdder> counters;
+
+    public void add(final FlowFileEvent flowFileEvent) {
+        markNotEmpty();
+
+        add(aggregateLineageMillis, flowFileEvent.getAggregateLineageMillis());
+        add(bytesRead, flowFileEvent.getBytesRead());
+        add(bytesReceived, flowFileEvent.getBytesReceived());
+        add(bytesSent, flowFileEvent.getBytesSent());
+        add(bytesWritten, flowFileEvent.getBytesWritten());
+        add(contentSizeIn, flowFileEvent.getContentSizeIn());
+        add(contentSizeOut, flowFileEvent.getContentSizeOut());
+        add(contentSizeRemoved, flowFileEvent.getContentSizeRemoved());
+        add(flowFilesIn, flowFileEvent.getFlowFilesIn());
+        add(flowFilesOut, flowFileEvent.getFlowFilesOut());
+        add(flowFilesReceived, flowFileEvent.getFlowFilesReceived());
+        add(flowFilesRemoved, flowFileEvent.getFlowFilesRemoved());
+        add(flowFilesSent, flowFileEvent.getFlowFilesSent());
+        add(invocations, flowFileEvent.getInvocations());
+        add(processingNanos, flowFileEvent.getProcessingNanoseconds());
+
+        final Map<String, Long> eventCounters = flowFileEvent.getCounters();
+        if (eventCounters != null && !eventCounters.isEmpty()) {
+            final ConcurrentMap<String, LongAdder> counterMap = getCounters();
+            for (final Map.Entry<String, Long> entry : eventCounters.entrySet()) {
+                getCounter(counterMap, entry.getKey()).add(entry.getValue());
+            }
+        }
+    }
+
+    public FlowFileEvent toFlowFileEvent() {
+        if (empty) {
+            return EmptyFlowFileEvent.INSTANCE;
+        }
+
+        final StandardFlowFileEvent event = new StandardFlowFileEvent();
+        event.setAggregateLineageMillis(aggregateLineageMillis.sum());
+        event.setBytesRead(bytesRead.sum());
+        event.setBytesReceived(bytesReceived.sum());
+        event.setBytesSent(bytesSent.sum());
+        event.setBytesWritten(bytesWritten.sum());
+        event.setContentSizeIn(contentSizeIn.sum());
+        event.setContentSizeOut(contentSizeOut.sum());
+        event.setContentSizeRemoved(contentSizeRemoved.sum());
+        event.setFlowFilesIn((int) flowFilesIn.sum());
+        event.setFlowFilesOut((int) flowFilesOut.sum());
+        event.setFlowFilesReceived((int) flowFilesReceived.sum());
+        event.setFlowFilesRemoved((int) flowFilesRemoved.sum());
+        event.setFlowFilesSent((int) flowFilesSent.sum());
+        event.setInvocations((int) invocations.sum());
+        event.setProcessingNanos(processingNanos.sum());
+
+        final ConcurrentMap<String, LongAdder> counterMap = this.counters;
+        if (counterMap == null) {
+            event.setCounters(Collections.emptyMap());
+        } else {
+            final Map<String, Long> counterValues = new HashMap<>(counterMap.size());
+            counterMap.forEach((name, value) -> counterValues.put(name, value.sum()));
+            event.setCounters(Collections.unmodifiableMap(counterValues));
+        }
+
+        return event;
+    }
+
+    public void subtract(final EventSumValue other) {
+        // Read each value of the second being subtracted only once
+        final FlowFileEvent event = other.toFlowFileEvent();
+
+        add(aggregateLineageMillis, -event.getAggregateLineageMillis());
+        add(bytesRead, -event.getBytesRead());
+        add(bytesReceived, -event.getBytesReceived());
+        add(bytesSent, -event.getBytesSent());
+        add(bytesWritten, -event.getBytesWritten());
+        add(contentSizeIn, -event.getContentSizeIn());
+        add(contentSizeOut, -event.getContentSizeOut());
+        add(contentSizeRemoved, -event.getContentSizeRemoved());
+        add(flowFilesIn, -event.getFlowFilesIn());
+        add(flowFilesOut, -event.getFlowFilesOut());
+        add(flowFilesReceived, -event.getFlowFilesReceived());
+        add(flowFilesRemoved, -event.getFlowFilesRemoved());
+        add(flowFilesSent, -event.getFlowFilesSent());
+        add(invocations, -event.getInvocations());
+        add(processingNanos, -event.getProcessingNanoseconds());
+
+        final Map<String, Long> eventCounters = event.getCounters();
+        if (eventCounters != null && !eventCounters.isEmpty()) {
+            final ConcurrentMap<String, LongAdder> counterMap = getCounters();
+            for (final Map.Entry<String, Long> entry : eventCounters.entrySet()) {
+                getCounter(counterMap, entry.getKey()).add(-entry.getValue());
+            }
+        }
+    }
+
+    private void markNotEmpty() {
+        // Avoid writing to the volatile field on every update, as that would cause contention between threads
+        if (empty) {
+            empty = false;
+        }
+    }
+
+    private static void add(final LongAdder adder, final long value) {
+        // Most values are 0 for any given event, and skipping them avoids touching the adder's memory at all
+        if (value != 0) {
+            adder.add(value);
+        }
+    }
+
+    private ConcurrentMap<String, LongAdder> getCounters() {
+        ConcurrentMap<String, LongAdder> counterMap = counters;
+        if (counterMap == null) {
+            synchronized (this) {
+                counterMap = counters;
+                if (counterMap == null) {
+                    counterMap = new ConcurrentHashMap<>();
+                    counters = counterMap;
+                }
+            }
+        }
+
+        return counterMap;
+    }
+
+    private static LongAdder getCounter(final ConcurrentMap<String, LongAdder> counterMap, final String counterName) {
+        final LongAdder counter = counterMap.get(counterName);
+        return counter == null ? counterMap.computeIfAbsent(counterName, name -> new LongAdder()) : counter;
+    }
+}
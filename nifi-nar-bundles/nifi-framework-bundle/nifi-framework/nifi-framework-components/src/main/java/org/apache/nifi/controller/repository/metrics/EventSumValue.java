@@ -22,28 +22,63 @@ import org.apache.nifi.controller.repository.FlowFileEvent;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Sum of the FlowFileEvents of a component for a single second. Every session commit of the component adds to the current second's
+ * value, often from many threads concurrently, so values are added atomically without taking a lock. A component keeps one of these
+ * for every second in its window, and a new one is created every second, so the values are kept in plain volatile fields that are
+ * updated through static field updaters rather than in separate atomic objects, in order to keep each instance small.
+ *
+ * A FlowFileEvent that is generated while values are being added may reflect only some of the values of an event that is
+ * concurrently being added, but once all additions have completed, the sum is exact.
+ */
 public class EventSumValue {
+    private static final AtomicIntegerFieldUpdater<EventSumValue> FLOW_FILES_IN = AtomicIntegerFieldUpdater.newUpdater(EventSumValue.class, "flowFilesIn");
+    private static final AtomicIntegerFieldUpdater<EventSumValue> FLOW_FILES_OUT = AtomicIntegerFieldUpdater.newUpdater(EventSumValue.class, "flowFilesOut");
+    private static final AtomicIntegerFieldUpdater<EventSumValue> FLOW_FILES_REMOVED = AtomicIntegerFieldUpdater.newUpdater(EventSumValue.class, "flowFilesRemoved");
+    private static final AtomicIntegerFieldUpdater<EventSumValue> FLOW_FILES_RECEIVED = AtomicIntegerFieldUpdater.newUpdater(EventSumValue.class, "flowFilesReceived");
+    private static final AtomicIntegerFieldUpdater<EventSumValue> FLOW_FILES_SENT = AtomicIntegerFieldUpdater.newUpdater(EventSumValue.class, "flowFilesSent");
+    private static final AtomicIntegerFieldUpdater<EventSumValue> INVOCATIONS = AtomicIntegerFieldUpdater.newUpdater(EventSumValue.class, "invocations");
+
+    private static final AtomicLongFieldUpdater<EventSumValue> CONTENT_SIZE_IN = AtomicLongFieldUpdater.newUpdater(EventSumValue.class, "contentSizeIn");
+    private static final AtomicLongFieldUpdater<EventSumValue> CONTENT_SIZE_OUT = AtomicLongFieldUpdater.newUpdater(EventSumValue.class, "contentSizeOut");
+    private static final AtomicLongFieldUpdater<EventSumValue> CONTENT_SIZE_REMOVED = AtomicLongFieldUpdater.newUpdater(EventSumValue.class, "contentSizeRemoved");
+    private static final AtomicLongFieldUpdater<EventSumValue> BYTES_READ = AtomicLongFieldUpdater.newUpdater(EventSumValue.class, "bytesRead");
+    private static final AtomicLongFieldUpdater<EventSumValue> BYTES_WRITTEN = AtomicLongFieldUpdater.newUpdater(EventSumValue.class, "bytesWritten");
+    private static final AtomicLongFieldUpdater<EventSumValue> BYTES_RECEIVED = AtomicLongFieldUpdater.newUpdater(EventSumValue.class, "bytesReceived");
+    private static final AtomicLongFieldUpdater<EventSumValue> BYTES_SENT = AtomicLongFieldUpdater.newUpdater(EventSumValue.class, "bytesSent");
+    private static final AtomicLongFieldUpdater<EventSumValue> PROCESSING_NANOS = AtomicLongFieldUpdater.newUpdater(EventSumValue.class, "processingNanos");
+    private static final AtomicLongFieldUpdater<EventSumValue> AGGREGATE_LINEAGE_MILLIS = AtomicLongFieldUpdater.newUpdater(EventSumValue.class, "aggregateLineageMillis");
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<EventSumValue, ConcurrentMap> COUNTERS =
+        AtomicReferenceFieldUpdater.newUpdater(EventSumValue.class, ConcurrentMap.class, "counters");
+
     private volatile boolean empty = true;
 
-    private int flowFilesIn = 0;
-    private int flowFilesOut = 0;
-    private int flowFilesRemoved = 0;
-    private int flowFilesReceived = 0;
-    private int flowFilesSent = 0;
-
-    private long contentSizeIn = 0;
-    private long contentSizeOut = 0;
-    private long contentSizeRemoved = 0;
-    private long bytesRead = 0;
-    private long bytesWritten = 0;
-
-    private long bytesReceived = 0;
-    private long bytesSent = 0;
-    private long processingNanos = 0;
-    private long aggregateLineageMillis = 0;
-    private int invocations = 0;
-    private Map<String, Long> counters;
+    private volatile int flowFilesIn = 0;
+    private volatile int flowFilesOut = 0;
+    private volatile int flowFilesRemoved = 0;
+    private volatile int flowFilesReceived = 0;
+    private volatile int flowFilesSent = 0;
+
+    private volatile long contentSizeIn = 0;
+    private volatile long contentSizeOut = 0;
+    private volatile long contentSizeRemoved = 0;
+    private volatile long bytesRead = 0;
+    private volatile long bytesWritten = 0;
+
+    private volatile long bytesReceived = 0;
+    private volatile long bytesSent = 0;
+    private volatile long processingNanos = 0;
+    private volatile long aggregateLineageMillis = 0;
+    private volatile int invocations = 0;
+    private volatile ConcurrentMap<String, Long> counters;
 
     private final long millisecondTimestamp;
 
@@ -52,40 +87,35 @@ public class EventSumValue {
         this.millisecondTimestamp = timestamp;
     }
 
-    public synchronized void add(final FlowFileEvent flowFileEvent) {
-        empty = false;
-
-        this.aggregateLineageMillis += flowFileEvent.getAggregateLineageMillis();
-        this.bytesRead += flowFileEvent.getBytesRead();
-        this.bytesReceived += flowFileEvent.getBytesReceived();
-        this.bytesSent += flowFileEvent.getBytesSent();
-        this.bytesWritten += flowFileEvent.getBytesWritten();
-        this.contentSizeIn += flowFileEvent.getContentSizeIn();
-        this.contentSizeOut += flowFileEvent.getContentSizeOut();
-        this.contentSizeRemoved += flowFileEvent.getContentSizeRemoved();
-        this.flowFilesIn += flowFileEvent.getFlowFilesIn();
-        this.flowFilesOut += flowFileEvent.getFlowFilesOut();
-        this.flowFilesReceived += flowFileEvent.getFlowFilesReceived();
-        this.flowFilesRemoved += flowFileEvent.getFlowFilesRemoved();
-        this.flowFilesSent += flowFileEvent.getFlowFilesSent();
-        this.invocations += flowFileEvent.getInvocations();
-        this.processingNanos += flowFileEvent.getProcessingNanoseconds();
+    public void add(final FlowFileEvent flowFileEvent) {
+        markNotEmpty();
+
+        add(AGGREGATE_LINEAGE_MILLIS, flowFileEvent.getAggregateLineageMillis());
+        add(BYTES_READ, flowFileEvent.getBytesRead());
+        add(BYTES_RECEIVED, flowFileEvent.getBytesReceived());
+        add(BYTES_SENT, flowFileEvent.getBytesSent());
+        add(BYTES_WRITTEN, flowFileEvent.getBytesWritten());
+        add(CONTENT_SIZE_IN, flowFileEvent.getContentSizeIn());
+        add(CONTENT_SIZE_OUT, flowFileEvent.getContentSizeOut());
+        add(CONTENT_SIZE_REMOVED, flowFileEvent.getContentSizeRemoved());
+        add(FLOW_FILES_IN, flowFileEvent.getFlowFilesIn());
+        add(FLOW_FILES_OUT, flowFileEvent.getFlowFilesOut());
+        add(FLOW_FILES_RECEIVED, flowFileEvent.getFlowFilesReceived());
+        add(FLOW_FILES_REMOVED, flowFileEvent.getFlowFilesRemoved());
+        add(FLOW_FILES_SENT, flowFileEvent.getFlowFilesSent());
+        add(INVOCATIONS, flowFileEvent.getInvocations());
+        add(PROCESSING_NANOS, flowFileEvent.getProcessingNanoseconds());
 
         final Map<String, Long> eventCounters = flowFileEvent.getCounters();
-        if (eventCounters != null) {
+        if (eventCounters != null && !eventCounters.isEmpty()) {
+            final ConcurrentMap<String, Long> counterMap = getCounters();
             for (final Map.Entry<String, Long> entry : eventCounters.entrySet()) {
-                final String counterName = entry.getKey();
-                final Long counterValue = entry.getValue();
-
-                if (counters == null) {
-                    counters = new HashMap<>();
-                }
-                counters.compute(counterName, (key, value) -> value == null ? counterValue : value + counterValue);
+                counterMap.merge(entry.getKey(), entry.getValue(), Long::sum);
             }
         }
     }
 
-    public synchronized FlowFileEvent toFlowFileEvent() {
+    public FlowFileEvent toFlowFileEvent() {
         if (empty) {
             return EmptyFlowFileEvent.INSTANCE;
         }
@@ -106,87 +136,45 @@ public class EventSumValue {
         event.setFlowFilesSent(flowFilesSent);
         event.setInvocations(invocations);
         event.setProcessingNanos(processingNanos);
-        event.setCounters(this.counters == null ? Collections.emptyMap() : Collections.unmodifiableMap(this.counters));
+
+        final Map<String, Long> counterMap = this.counters;
+        event.setCounters(counterMap == null ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(counterMap)));
         return event;
     }
 
-    public synchronized void add(final EventSumValue other) {
-        if (other.empty) {
-            return;
-        }
+    public long getTimestamp() {
+        return millisecondTimestamp;
+    }
 
-        synchronized (other) {
-            this.aggregateLineageMillis += other.aggregateLineageMillis;
-            this.bytesRead += other.bytesRead;
-            this.bytesReceived += other.bytesReceived;
-            this.bytesSent += other.bytesSent;
-            this.bytesWritten += other.bytesWritten;
-            this.contentSizeIn += other.contentSizeIn;
-            this.contentSizeOut += other.contentSizeOut;
-            this.contentSizeRemoved += other.contentSizeRemoved;
-            this.flowFilesIn += other.flowFilesIn;
-            this.flowFilesOut += other.flowFilesOut;
-            this.flowFilesReceived += other.flowFilesReceived;
-            this.flowFilesRemoved += other.flowFilesRemoved;
-            this.flowFilesSent += other.flowFilesSent;
-            this.invocations += other.invocations;
-            this.processingNanos += other.processingNanos;
-
-            final Map<String, Long> eventCounters = other.counters;
-            if (eventCounters != null) {
-                if (counters == null) {
-                    counters = new HashMap<>();
-                }
-
-                for (final Map.Entry<String, Long> entry : eventCounters.entrySet()) {
-                    final String counterName = entry.getKey();
-                    final Long counterValue = entry.getValue();
-
-                    counters.compute(counterName, (key, value) -> value == null ? counterValue : value + counterValue);
-                }
-            }
+    private void markNotEmpty() {
+        // Avoid writing to the volatile field on every update, as that would cause contention between threads
+        if (empty) {
+            empty = false;
         }
     }
 
-    public synchronized void subtract(final EventSumValue other) {
-        if (other.empty) {
-            return;
+    private void add(final AtomicIntegerFieldUpdater<EventSumValue> updater, final int value) {
+        // Most values are 0 for any given event, and skipping them avoids contending for the field at all
+        if (value != 0) {
+            updater.getAndAdd(this, value);
         }
+    }
 
-        synchronized (other) {
-            this.aggregateLineageMillis -= other.aggregateLineageMillis;
-            this.bytesRead -= other.bytesRead;
-            this.bytesReceived -= other.bytesReceived;
-            this.bytesSent -= other.bytesSent;
-            this.bytesWritten -= other.bytesWritten;
-            this.contentSizeIn -= other.contentSizeIn;
-            this.contentSizeOut -= other.contentSizeOut;
-            this.contentSizeRemoved -= other.contentSizeRemoved;
-            this.flowFilesIn -= other.flowFilesIn;
-            this.flowFilesOut -= other.flowFilesOut;
-            this.flowFilesReceived -= other.flowFilesReceived;
-            this.flowFilesRemoved -= other.flowFilesRemoved;
-            this.flowFilesSent -= other.flowFilesSent;
-            this.invocations -= other.invocations;
-            this.processingNanos -= other.processingNanos;
-
-            final Map<String, Long> eventCounters = other.counters;
-            if (eventCounters != null) {
-                if (counters == null) {
-                    counters = new HashMap<>();
-                }
-
-                for (final Map.Entry<String, Long> entry : eventCounters.entrySet()) {
-                    final String counterName = entry.getKey();
-                    final Long counterValue = entry.getValue();
-
-                    counters.compute(counterName, (key, value) -> value == null ? -counterValue : value - counterValue);
-                }
-            }
+    private void add(final AtomicLongFieldUpdater<EventSumValue> updater, final long value) {
+        if (value != 0) {
+            updater.getAndAdd(this, value);
         }
     }
 
-    public long getTimestamp() {
-        return millisecondTimestamp;
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<String, Long> getCounters() {
+        final ConcurrentMap<String, Long> counterMap = counters;
+        if (counterMap != null) {
+            return counterMap;
+        }
+
+        // Most components never update a counter, so the map is only created once one is needed
+        COUNTERS.compareAndSet(this, null, new ConcurrentHashMap<>(4));
+        return counters;
     }
 }
@@ -28,7 +28,7 @@ public class SecondPrecisionEventContainer implements EventContainer {
 
     private final int numBins;
     private final EventSum[] sums;
-    private final EventSumValue aggregateValue = new EventSumValue(0L);
+    private final AggregateEventSumValue aggregateValue = new AggregateEventSumValue();
     private final AtomicLong lastUpdateSecond = new AtomicLong(System.currentTimeMillis() / 1000L);
 
     public SecondPrecisionEventContainer(final int numMinutes) {
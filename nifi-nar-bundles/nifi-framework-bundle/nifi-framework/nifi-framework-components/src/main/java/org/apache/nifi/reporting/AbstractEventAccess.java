@@ -62,16 +62,25 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 public abstract class AbstractEventAccess implements EventAccess {
     private static final Logger logger = LoggerFactory.getLogger(AbstractEventAccess.class);
 
+    /**
+     * Unfiltered statuses are requested by several background consumers, such as heartbeats, status history and Reporting Tasks,
+     * each of which would otherwise walk the entire flow. A status that was computed within this amount of time is reused.
+     */
+    private static final long UNFILTERED_STATUS_REUSE_NANOS = TimeUnit.SECONDS.toNanos(5L);
+
     private final ProcessScheduler processScheduler;
     private final StatusAnalyticsEngine statusAnalyticsEngine;
     private final FlowManager flowManager;
     private final FlowFileEventRepository flowFileEventRepository;
+    private final ConcurrentMap<String, TimestampedGroupStatus> unfilteredGroupStatuses = new ConcurrentHashMap<>();
 
     public AbstractEventAccess(final ProcessScheduler processScheduler, final StatusAnalyticsEngine analyticsEngine, final FlowManager flowManager,
                                final FlowFileEventRepository flowFileEventRepository) {
@@ -90,8 +99,30 @@ public abstract class AbstractEventAccess implements EventAccess {
      */
     @Override
     public ProcessGroupStatus getGroupStatus(final String groupId) {
-        final RepositoryStatusReport repoStatusReport = generateRepositoryStatusReport();
-        return getGroupStatus(groupId, repoStatusReport);
+        final TimestampedGroupStatus cachedStatus = unfilteredGroupStatuses.get(groupId);
+        if (cachedStatus != null && cachedStatus.isFresh()) {
+            return cachedStatus.getStatus().clone();
+        }
+
+        // Only one thread walks the flow at a time; any thread that was waiting will then be able to use the result
+        synchronized (unfilteredGroupStatuses) {
+            final TimestampedGroupStatus latestStatus = unfilteredGroupStatuses.get(groupId);
+            if (latestStatus != null && latestStatus.isFresh()) {
+                return latestStatus.getStatus().clone();
+            }
+
+            final RepositoryStatusReport repoStatusReport = generateRepositoryStatusReport();
+            final ProcessGroupStatus status = getGroupStatus(groupId, repoStatusReport);
+
+            // Remove any statuses that can no longer be used so that statuses of removed groups are not retained
+            unfilteredGroupStatuses.values().removeIf(timestampedStatus -> !timestampedStatus.isFresh());
+            if (status == null) {
+                return null;
+            }
+
+            unfilteredGroupStatuses.put(groupId, new TimestampedGroupStatus(status));
+            return status.clone();
+        }
     }
 
     /**
@@ -684,4 +715,21 @@ public abstract class AbstractEventAccess implements EventAccess {
     public long getTotalBytesReceived() {
         return flowFileEventRepository.reportAggregateEvent().getBytesReceived();
     }
+
+    private static class TimestampedGroupStatus {
+        private final ProcessGroupStatus status;
+        private final long createdNanos = System.nanoTime();
+
+        public TimestampedGroupStatus(final ProcessGroupStatus status) {
+            this.status = status;
+        }
+
+        public ProcessGroupStatus getStatus() {
+            return status;
+        }
+
+        public boolean isFresh() {
+            return System.nanoTime() - createdNanos < UNFILTERED_STATUS_REUSE_NANOS;
+        }
+    }
 }
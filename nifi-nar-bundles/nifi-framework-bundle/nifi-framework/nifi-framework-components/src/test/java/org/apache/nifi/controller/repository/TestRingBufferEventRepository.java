@@ -18,11 +18,15 @@ package org.apache.nifi.controller.repository;
 
 import org.apache.nifi.controller.repository.metrics.RingBufferEventRepository;
 import org.junit.Assert;
+import org.junit.Ignore;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
 public class TestRingBufferEventRepository {
@@ -76,7 +80,77 @@ public class TestRingBufferEventRepository {
         repo.close();
     }
 
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        for (final int threadCount : new int[] {1, 8, 64}) {
+            final RingBufferEventRepository repo = new RingBufferEventRepository(5);
+            final int eventsPerThread = 128_000 / threadCount;
+            final int eventCount = threadCount * eventsPerThread;
+
+            updateConcurrently(repo, threadCount, eventsPerThread);
+
+            final FlowFileEvent event = repo.reportTransferEvents("ABC", System.currentTimeMillis());
+            Assert.assertEquals(eventCount, event.getFlowFilesIn());
+            Assert.assertEquals(eventCount, event.getInvocations());
+            Assert.assertEquals(eventCount * 1024L, event.getBytesRead());
+            Assert.assertEquals(Long.valueOf(eventCount), event.getCounters().get("counter"));
+
+            final FlowFileEvent aggregate = repo.reportAggregateEvent();
+            Assert.assertEquals(eventCount, aggregate.getFlowFilesOut());
+            Assert.assertEquals(eventCount * 783L, aggregate.getAggregateLineageMillis());
+            Assert.assertEquals(Long.valueOf(eventCount), aggregate.getCounters().get("counter"));
+
+            repo.close();
+        }
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testContendedUpdatePerformance() throws Exception {
+        for (final int threadCount : new int[] {1, 8, 64}) {
+            final RingBufferEventRepository repo = new RingBufferEventRepository(5);
+            final int eventsPerThread = 10_000_000 / threadCount;
+
+            final long start = System.nanoTime();
+            updateConcurrently(repo, threadCount, eventsPerThread);
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.println("Added " + threadCount * eventsPerThread + " events using " + threadCount + " threads in " + millis + " millis");
+
+            repo.close();
+        }
+    }
+
+    private void updateConcurrently(final RingBufferEventRepository repo, final int threadCount, final int eventsPerThread) throws InterruptedException {
+        final FlowFileEvent event = generateEvent(Collections.singletonMap("counter", 1L));
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (final InterruptedException e) {
+                    return;
+                }
+
+                for (int j = 0; j < eventsPerThread; j++) {
+                    repo.updateRepository(event, "ABC");
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        startLatch.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+    }
+
     private FlowFileEvent generateEvent() {
+        return generateEvent(Collections.emptyMap());
+    }
+
+    private FlowFileEvent generateEvent(final Map<String, Long> counters) {
         return new FlowFileEvent() {
             @Override
             public int getFlowFilesIn() {
@@ -160,7 +234,7 @@ public class TestRingBufferEventRepository {
 
             @Override
             public Map<String, Long> getCounters() {
-                return Collections.emptyMap();
+                return counters;
             }
         };
     }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.reporting;
+
+import org.apache.nifi.action.Action;
+import org.apache.nifi.controller.ProcessScheduler;
+import org.apache.nifi.controller.flow.FlowManager;
+import org.apache.nifi.controller.repository.FlowFileEventRepository;
+import org.apache.nifi.controller.repository.StandardRepositoryStatusReport;
+import org.apache.nifi.controller.status.ProcessGroupStatus;
+import org.apache.nifi.groups.ProcessGroup;
+import org.apache.nifi.provenance.ProvenanceEventRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestAbstractEventAccess {
+
+    private FlowFileEventRepository flowFileEventRepository;
+    private EventAccess eventAccess;
+
+    @Before
+    public void setup() {
+        final ProcessGroup rootGroup = Mockito.mock(ProcessGroup.class);
+        when(rootGroup.getIdentifier()).thenReturn("root");
+        when(rootGroup.getName()).thenReturn("Root");
+
+        final FlowManager flowManager = Mockito.mock(FlowManager.class);
+        when(flowManager.getRootGroupId()).thenReturn("root");
+        when(flowManager.getGroup("root")).thenReturn(rootGroup);
+
+        flowFileEventRepository = Mockito.mock(FlowFileEventRepository.class);
+        when(flowFileEventRepository.reportTransferEvents(anyLong())).thenReturn(new StandardRepositoryStatusReport());
+
+        eventAccess = new AbstractEventAccess(Mockito.mock(ProcessScheduler.class), null, flowManager, flowFileEventRepository) {
+            @Override
+            public ProvenanceEventRepository getProvenanceRepository() {
+                return null;
+            }
+
+            @Override
+            public List<Action> getFlowChanges(final int firstActionId, final int maxActions) {
+                return null;
+            }
+        };
+    }
+
+    @Test
+    public void testUnfilteredStatusIsReused() {
+        final ProcessGroupStatus firstStatus = eventAccess.getControllerStatus();
+        final ProcessGroupStatus secondStatus = eventAccess.getGroupStatus("root");
+
+        assertNotNull(firstStatus);
+        assertEquals("root", firstStatus.getId());
+        assertEquals("Root", secondStatus.getName());
+
+        // each caller gets its own copy, since the statuses are mutable
+        assertNotSame(firstStatus, secondStatus);
+        verify(flowFileEventRepository, times(1)).reportTransferEvents(anyLong());
+    }
+
+    @Test
+    public void testUnknownGroupStatusIsNotCached() {
+        assertNull(eventAccess.getGroupStatus("unknown"));
+        assertNull(eventAccess.getGroupStatus("unknown"));
+        verify(flowFileEventRepository, times(2)).reportTransferEvents(anyLong());
+    }
+}
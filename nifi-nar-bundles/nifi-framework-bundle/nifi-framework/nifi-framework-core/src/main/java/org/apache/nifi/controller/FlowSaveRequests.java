@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller;
+
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Coalesces requests to save the flow into a single pending save. Each request pushes the save time back so that a burst of changes
+ * results in a single write, but the deadline of the first pending request is kept so that a continuous stream of requests cannot
+ * postpone the save forever.
+ */
+class FlowSaveRequests {
+
+    // The longest that a continuous stream of save requests may postpone writing the flow
+    static final int MAX_SAVE_DEFERRAL_MILLIS = (int) TimeUnit.SECONDS.toMillis(30);
+
+    private final AtomicReference<SaveHolder> saveHolder = new AtomicReference<>(null);
+
+    /**
+     * Requests that the flow be saved once the given delay has passed without any further request
+     *
+     * @param requestTime the time at which the request was made
+     * @param delayMs the number of milliseconds to wait for further requests
+     * @param archive whether or not the flow should be archived when it is saved
+     * @return the pending save that covers this request
+     */
+    SaveHolder request(final Calendar requestTime, final int delayMs, final boolean archive) {
+        final Calendar saveTime = (Calendar) requestTime.clone();
+        saveTime.add(Calendar.MILLISECOND, delayMs);
+
+        return saveHolder.updateAndGet(pending -> {
+            if (pending == null) {
+                final Calendar deadline = (Calendar) requestTime.clone();
+                deadline.add(Calendar.MILLISECOND, Math.max(delayMs, MAX_SAVE_DEFERRAL_MILLIS));
+                return new SaveHolder(saveTime, deadline, archive, 1);
+            }
+
+            return new SaveHolder(saveTime, pending.deadline, archive || pending.shouldArchive, pending.requestCount + 1);
+        });
+    }
+
+    /**
+     * Removes the pending save if it is due, so that any request made while it is being saved starts a new pending save
+     * with its own archive flag and deadline
+     *
+     * @param now the current time
+     * @return the pending save, or <code>null</code> if there is no pending save or it is not yet due
+     */
+    SaveHolder claimDueSave(final Calendar now) {
+        final SaveHolder pending = saveHolder.getAndUpdate(holder -> holder != null && holder.isDue(now) ? null : holder);
+        return pending != null && pending.isDue(now) ? pending : null;
+    }
+
+    /**
+     * Returns a save that could not be completed, so that it is attempted again along with any request made since it was claimed
+     *
+     * @param failed the save that could not be completed
+     */
+    void retry(final SaveHolder failed) {
+        saveHolder.accumulateAndGet(failed, (pending, retried) -> pending == null ? retried : pending.merge(retried));
+    }
+
+    /**
+     * @return <code>true</code> if a save has been requested that has not yet been claimed
+     */
+    boolean isSavePending() {
+        return saveHolder.get() != null;
+    }
+
+    static class SaveHolder {
+
+        private final Calendar saveTime;
+        private final Calendar deadline;
+        private final boolean shouldArchive;
+        private final int requestCount;
+
+        private SaveHolder(final Calendar moment, final Calendar deadline, final boolean archive, final int requestCount) {
+            saveTime = moment;
+            this.deadline = deadline;
+            shouldArchive = archive;
+            this.requestCount = requestCount;
+        }
+
+        private SaveHolder merge(final SaveHolder other) {
+            final Calendar earliestDeadline = other.deadline.before(deadline) ? other.deadline : deadline;
+            return new SaveHolder(saveTime, earliestDeadline, shouldArchive || other.shouldArchive, requestCount + other.requestCount);
+        }
+
+        private boolean isDue(final Calendar now) {
+            return saveTime.before(now) || deadline.before(now);
+        }
+
+        Calendar getSaveTime() {
+            return saveTime;
+        }
+
+        Calendar getDeadline() {
+            return deadline;
+        }
+
+        boolean isShouldArchive() {
+            return shouldArchive;
+        }
+
+        int getRequestCount() {
+            return requestCount;
+        }
+    }
+}
@@ -92,7 +92,6 @@ import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -129,7 +128,7 @@ public class StandardFlowService implements FlowService, ProtocolHandler {
 
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final AtomicReference<ScheduledExecutorService> executor = new AtomicReference<>(null);
-    private final AtomicReference<SaveHolder> saveHolder = new AtomicReference<>(null);
+    private final FlowSaveRequests saveRequests = new FlowSaveRequests();
     private final ClusterCoordinator clusterCoordinator;
     private final RevisionManager revisionManager;
 
@@ -256,19 +255,17 @@ public class StandardFlowService implements FlowService, ProtocolHandler {
 
     @Override
     public void saveFlowChanges(final TimeUnit delayUnit, final long delay, final boolean archive) {
-        final Calendar saveTime = Calendar.getInstance();
         final long delayInMs = TimeUnit.MILLISECONDS.convert(delay, delayUnit);
         int finalDelayMs = 500; //default to 500 ms.
         if (delayInMs <= Integer.MAX_VALUE) {
             finalDelayMs = (int) delayInMs;
         }
-        saveTime.add(Calendar.MILLISECOND, finalDelayMs);
+
+        final FlowSaveRequests.SaveHolder pending = saveRequests.request(Calendar.getInstance(), finalDelayMs, archive);
 
         if (logger.isTraceEnabled()) {
-            logger.trace(" A request to save the flow has been made with delay {} for time {}", finalDelayMs, saveTime.getTime());
+            logger.trace(" A request to save the flow has been made with delay {} for time {}", finalDelayMs, pending.getSaveTime().getTime());
         }
-
-        saveHolder.set(new SaveHolder(saveTime, archive));
     }
 
     @Override
@@ -1087,30 +1084,34 @@ public class StandardFlowService implements FlowService, ProtocolHandler {
             }
 
             try {
-                //Hang onto the SaveHolder here rather than setting it to null because if the save fails we will try again
-                final SaveHolder holder = StandardFlowService.this.saveHolder.get();
+                // Take the pending save only once it is due, so that requests made while saving start a new pending save with their
+                // own archive flag and deadline. If the save fails, it is handed back so that we will try again.
+                final Calendar now = Calendar.getInstance();
+                final FlowSaveRequests.SaveHolder holder = saveRequests.claimDueSave(now);
                 if (holder == null) {
                     return;
                 }
 
                 if (logger.isTraceEnabled()) {
-                    logger.trace("Save request time {} // Current time {}", holder.saveTime.getTime(), new Date());
+                    logger.trace("Save request time {} // Save deadline {} // Current time {}", holder.getSaveTime().getTime(), holder.getDeadline().getTime(), now.getTime());
+                    logger.trace("Waiting for write lock and then will save");
                 }
 
-                final Calendar now = Calendar.getInstance();
-                if (holder.saveTime.before(now)) {
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("Waiting for write lock and then will save");
-                    }
-                    writeLock.lock();
-                    try {
-                        dao.save(controller, holder.shouldArchive);
-                        // Nulling it out if it is still set to our current SaveHolder.  Otherwise leave it alone because it means
-                        // another save is already pending.
-                        final boolean noSavePending = StandardFlowService.this.saveHolder.compareAndSet(holder, null);
-                        logger.info("Saved flow controller {} // Another save pending = {}", controller, !noSavePending);
-                    } finally {
-                        writeLock.unlock();
+                boolean saved = false;
+                writeLock.lock();
+                try {
+                    final long start = System.nanoTime();
+                    dao.save(controller, holder.isShouldArchive());
+                    saved = true;
+                    final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                    logger.info("Saved flow controller {} in {} millis, coalescing {} save requests // Another save pending = {}",
+                        controller, millis, holder.getRequestCount(), saveRequests.isSavePending());
+                } finally {
+                    writeLock.unlock();
+
+                    if (!saved) {
+                        saveRequests.retry(holder);
                     }
                 }
             } catch (final Throwable t) {
@@ -1129,15 +1130,4 @@ public class StandardFlowService implements FlowService, ProtocolHandler {
             }
         }
     }
-
-    private class SaveHolder {
-
-        private final Calendar saveTime;
-        private final boolean shouldArchive;
-
-        private SaveHolder(final Calendar moment, final boolean archive) {
-            saveTime = moment;
-            shouldArchive = archive;
-        }
-    }
 }
@@ -180,8 +180,11 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
         final boolean flowAlreadySynchronized = controller.isFlowSynchronized();
         logger.debug("Synching FlowController with proposed flow: Controller is Already Synchronized = {}", flowAlreadySynchronized);
 
+        final long syncStart = System.nanoTime();
+
         // serialize controller state to bytes
         final DataFlow existingDataFlow = getExistingDataFlow(controller);
+        final long existingFlowNanos = System.nanoTime() - syncStart;
         boolean existingFlowEmpty = isFlowEmpty(existingDataFlow.getFlowDocument());
 
         logger.trace("Parsing proposed flow bytes as DOM document");
@@ -258,6 +261,8 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
             }
         }
 
+        final long checksNanos = System.nanoTime() - syncStart - existingFlowNanos;
+
         // attempt to sync controller with proposed flow
         try {
             if (backupAndPurge) {
@@ -279,9 +284,11 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
                 updateThreadCounts(existingDataFlow.getFlowDocument().getDocumentElement(), controller);
             }
 
+            final long updateStart = System.nanoTime();
             if (configuration != null) {
                 updateFlow(controller, configuration, existingDataFlow, existingFlowEmpty);
             }
+            final long updateNanos = System.nanoTime() - updateStart;
 
             inheritSnippets(controller, proposedFlow);
 
@@ -301,7 +308,11 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
                 }
             }
 
-            logger.debug("Finished syncing flows");
+            final long totalNanos = System.nanoTime() - syncStart;
+            logger.info("Synchronized flow in {} millis: read existing flow in {} millis, checked inheritability in {} millis, updated flow in {} millis, "
+                    + "inherited snippets and authorizations in {} millis", TimeUnit.NANOSECONDS.toMillis(totalNanos), TimeUnit.NANOSECONDS.toMillis(existingFlowNanos),
+                TimeUnit.NANOSECONDS.toMillis(checksNanos), TimeUnit.NANOSECONDS.toMillis(updateNanos),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - updateStart - updateNanos));
         } catch (final Exception ex) {
             throw new FlowSynchronizationException(ex);
         }
@@ -911,7 +922,7 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
                             break;
                         case RUNNING:
                             // we want to run now. Make sure processor is not disabled and then start it.
-                            procNode.performValidation();
+                            validateBeforeStart(procNode, controller);
                             procNode.getProcessGroup().enableProcessor(procNode);
                             controller.startProcessor(procNode.getProcessGroupIdentifier(), procNode.getIdentifier(), false);
                             break;
@@ -1250,7 +1261,7 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
 
             final ScheduledState scheduledState = ScheduledState.valueOf(processorDTO.getState());
             if (ScheduledState.RUNNING.equals(scheduledState)) {
-                procNode.performValidation(); // ensure that processor has been validated
+                validateBeforeStart(procNode, controller);
                 controller.startProcessor(processGroup.getIdentifier(), procNode.getIdentifier());
             } else if (ScheduledState.DISABLED.equals(scheduledState)) {
                 processGroup.disableProcessor(procNode);
@@ -1262,6 +1273,17 @@ public class StandardFlowSynchronizer implements FlowSynchronizer {
         }
     }
 
+    /**
+     * Ensures that the given processor has been validated before it is started. If the controller has not yet been initialized,
+     * starting the processor is deferred until it is, and all components are validated at that point, so validating here would only
+     * slow down synchronization of large flows.
+     */
+    private void validateBeforeStart(final ProcessorNode procNode, final FlowController controller) {
+        if (controller.isInitialized()) {
+            procNode.performValidation();
+        }
+    }
+
     private void updateNonFingerprintedProcessorSettings(final ProcessorNode procNode, final ProcessorDTO processorDTO) {
         procNode.setName(processorDTO.getName());
         procNode.setPosition(toPosition(processorDTO.getPosition()));
@@ -307,8 +307,7 @@ public class FileSystemRepository implements ContentRepository {
         final List<Future<Long>> futures = new ArrayList<>();
 
         // Run through each of the containers. For each container, create the sections if necessary.
-        // Then, we need to scan through the archived data so that we can determine what the oldest
-        // archived data is, so that we know when we have to start aging data off.
+        // Then, we need to scan through the archived data so that we know how many archived files there are.
         for (final Map.Entry<String, Path> container : containers.entrySet()) {
             final String containerName = container.getKey();
             final ContainerState containerState = containerStateMap.get(containerName);
@@ -328,46 +327,45 @@ public class FileSystemRepository implements ContentRepository {
 
             realPathMap.put(containerName, realPath);
 
-            // We need to scan the archive directories to find out the oldest timestamp so that know whether or not we
-            // will have to delete archived data based on time threshold. Scanning all of the directories can be very
-            // expensive because of all of the disk accesses. So we do this in multiple threads. Since containers are
-            // often unique to a disk, we just map 1 thread to each container.
+            // Archived files live only in the 'archive' directory of each section, so only those directories are scanned.
+            // Scanning the rest of the container would mean visiting every piece of active content, which can take a very long
+            // time for large repositories. Scanning all of the archive directories can still be expensive because of all of the
+            // disk accesses. So we do this in multiple threads. Since containers are often unique to a disk, we just map 1 thread
+            // to each container.
             final Callable<Long> scanContainer = new Callable<Long>() {
                 @Override
                 public Long call() throws IOException {
-                    final AtomicLong oldestDateHolder = new AtomicLong(0L);
-
-                    // the path already exists, so scan the path to find any files and update maxIndex to the max of
-                    // all filenames seen.
-                    Files.walkFileTree(realPath, new SimpleFileVisitor<Path>() {
-                        @Override
-                        public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
-                            LOG.warn("Content repository contains un-readable file or directory '" + file.getFileName() + "'. Skipping. ", exc);
-                            return FileVisitResult.SKIP_SUBTREE;
+                    final long start = System.nanoTime();
+                    final AtomicLong archivedFileCount = new AtomicLong(0L);
+
+                    for (int i = 0; i < SECTIONS_PER_CONTAINER; i++) {
+                        final Path archive = realPath.resolve(String.valueOf(i)).resolve(ARCHIVE_DIR_NAME);
+                        if (!Files.exists(archive)) {
+                            continue;
                         }
 
-                        @Override
-                        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                            if (attrs.isDirectory()) {
-                                return FileVisitResult.CONTINUE;
+                        Files.walkFileTree(archive, new SimpleFileVisitor<Path>() {
+                            @Override
+                            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                                LOG.warn("Content repository contains un-readable file or directory '" + file.getFileName() + "'. Skipping. ", exc);
+                                return FileVisitResult.SKIP_SUBTREE;
                             }
 
-                            // Check if this is an 'archive' directory
-                            final Path relativePath = realPath.relativize(file);
-                            if (relativePath.getNameCount() > 3 && ARCHIVE_DIR_NAME.equals(relativePath.subpath(1, 2).toString())) {
-                                final long lastModifiedTime = getLastModTime(file);
-
-                                if (lastModifiedTime < oldestDateHolder.get()) {
-                                    oldestDateHolder.set(lastModifiedTime);
+                            @Override
+                            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                                if (!attrs.isDirectory()) {
+                                    containerState.incrementArchiveCount();
+                                    archivedFileCount.incrementAndGet();
                                 }
-                                containerState.incrementArchiveCount();
-                            }
 
-                            return FileVisitResult.CONTINUE;
-                        }
-                    });
+                                return FileVisitResult.CONTINUE;
+                            }
+                        });
+                    }
 
-                    return oldestDateHolder.get();
+                    LOG.info("Found {} archived files in Container {} in {} millis", archivedFileCount.get(), containerName,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    return archivedFileCount.get();
                 }
             };
 
@@ -380,10 +378,7 @@ public class FileSystemRepository implements ContentRepository {
         executor.shutdown();
         for (final Future<Long> future : futures) {
             try {
-                final Long oldestDate = future.get();
-                if (oldestDate < oldestArchiveDate.get()) {
-                    oldestArchiveDate.set(oldestDate);
-                }
+                future.get();
             } catch (final ExecutionException | InterruptedException e) {
                 if (e.getCause() instanceof IOException) {
                     throw (IOException) e.getCause();
@@ -1062,6 +1057,16 @@ public class FileSystemRepository implements ContentRepository {
         return Files.exists(getArchivePath(contentClaim.getResourceClaim()));
     }
 
+    // visible for testing
+    long getArchivedFileCount(final String containerName) {
+        return containerStateMap.get(containerName).archivedFileCount.get();
+    }
+
+    // visible for testing
+    boolean isWaitRequired(final String containerName) {
+        return containerStateMap.get(containerName).isWaitRequired();
+    }
+
     // visible for testing
     boolean archive(final ResourceClaim claim) throws IOException {
         if (!archiveData) {
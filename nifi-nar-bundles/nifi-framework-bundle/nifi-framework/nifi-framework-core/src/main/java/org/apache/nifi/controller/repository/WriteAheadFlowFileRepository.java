@@ -283,7 +283,7 @@ public class WriteAheadFlowFileRepository implements FlowFileRepository, SyncLis
         final Map<ResourceClaim, Set<ResourceClaimReference>> references = new HashMap<>();
 
         final SnapshotCapture<SerializedRepositoryRecord> snapshot = ((SequentialAccessWriteAheadLog<SerializedRepositoryRecord>) wal).captureSnapshot();
-        for (final SerializedRepositoryRecord repositoryRecord : snapshot.getRecords().values()) {
+        for (final SerializedRepositoryRecord repositoryRecord : snapshot.getRecordValues()) {
             final ContentClaim contentClaim = repositoryRecord.getContentClaim();
             if (contentClaim == null) {
                 continue;
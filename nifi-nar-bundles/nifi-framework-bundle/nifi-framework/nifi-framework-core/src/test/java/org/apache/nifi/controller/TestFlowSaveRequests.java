@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import org.junit.Test;
+
+public class TestFlowSaveRequests {
+
+    private static final int DELAY_MILLIS = 500;
+
+    @Test
+    public void testBurstOfRequestsCoalesced() {
+        final FlowSaveRequests saveRequests = new FlowSaveRequests();
+        saveRequests.request(at(0L), DELAY_MILLIS, false);
+        saveRequests.request(at(100L), DELAY_MILLIS, true);
+        saveRequests.request(at(200L), DELAY_MILLIS, false);
+
+        // Each request pushes the save time back
+        assertNull(saveRequests.claimDueSave(at(650L)));
+
+        final FlowSaveRequests.SaveHolder holder = saveRequests.claimDueSave(at(701L));
+        assertNotNull(holder);
+        assertEquals(3, holder.getRequestCount());
+        assertTrue(holder.isShouldArchive());
+        assertFalse(saveRequests.isSavePending());
+    }
+
+    @Test
+    public void testContinuousRequestsSavedAtDeadline() {
+        final FlowSaveRequests saveRequests = new FlowSaveRequests();
+
+        // Requests keep arriving more often than the save delay, so the save time alone would never be reached
+        final long interval = DELAY_MILLIS - 100;
+        long time = 0L;
+        int requestCount = 0;
+        while (time <= FlowSaveRequests.MAX_SAVE_DEFERRAL_MILLIS) {
+            saveRequests.request(at(time), DELAY_MILLIS, false);
+            requestCount++;
+
+            if (time < FlowSaveRequests.MAX_SAVE_DEFERRAL_MILLIS) {
+                assertNull(saveRequests.claimDueSave(at(time + interval - 1)));
+            }
+
+            time += interval;
+        }
+
+        final FlowSaveRequests.SaveHolder holder = saveRequests.claimDueSave(at(FlowSaveRequests.MAX_SAVE_DEFERRAL_MILLIS + 1));
+        assertNotNull(holder);
+        assertEquals(requestCount, holder.getRequestCount());
+        assertFalse(saveRequests.isSavePending());
+    }
+
+    @Test
+    public void testRequestDuringSaveStartsNewPendingSave() {
+        final FlowSaveRequests saveRequests = new FlowSaveRequests();
+        saveRequests.request(at(0L), DELAY_MILLIS, true);
+        saveRequests.request(at(100L), DELAY_MILLIS, true);
+
+        final FlowSaveRequests.SaveHolder saving = saveRequests.claimDueSave(at(700L));
+        assertNotNull(saving);
+        assertEquals(2, saving.getRequestCount());
+        assertTrue(saving.isShouldArchive());
+
+        // A request made while the save is in progress is not merged with the save that is being written
+        saveRequests.request(at(800L), DELAY_MILLIS, false);
+        assertTrue(saveRequests.isSavePending());
+
+        final FlowSaveRequests.SaveHolder next = saveRequests.claimDueSave(at(1301L));
+        assertNotNull(next);
+        assertEquals(1, next.getRequestCount());
+        assertFalse(next.isShouldArchive());
+        assertEquals(800L + FlowSaveRequests.MAX_SAVE_DEFERRAL_MILLIS, next.getDeadline().getTimeInMillis());
+    }
+
+    @Test
+    public void testFailedSaveRetriedWithLaterRequests() {
+        final FlowSaveRequests saveRequests = new FlowSaveRequests();
+        saveRequests.request(at(0L), DELAY_MILLIS, true);
+
+        final FlowSaveRequests.SaveHolder failed = saveRequests.claimDueSave(at(501L));
+        assertNotNull(failed);
+
+        saveRequests.request(at(600L), DELAY_MILLIS, false);
+        saveRequests.retry(failed);
+
+        // The failed save keeps its archive flag and its deadline, and covers the request made since
+        assertNull(saveRequests.claimDueSave(at(700L)));
+        final FlowSaveRequests.SaveHolder retried = saveRequests.claimDueSave(at(1101L));
+        assertNotNull(retried);
+        assertEquals(2, retried.getRequestCount());
+        assertTrue(retried.isShouldArchive());
+        assertEquals(FlowSaveRequests.MAX_SAVE_DEFERRAL_MILLIS, retried.getDeadline().getTimeInMillis());
+    }
+
+    @Test
+    public void testFailedSaveRetriedWithNoLaterRequests() {
+        final FlowSaveRequests saveRequests = new FlowSaveRequests();
+        saveRequests.request(at(0L), DELAY_MILLIS, false);
+
+        final FlowSaveRequests.SaveHolder failed = saveRequests.claimDueSave(at(501L));
+        assertNotNull(failed);
+        assertFalse(saveRequests.isSavePending());
+
+        saveRequests.retry(failed);
+        assertTrue(saveRequests.isSavePending());
+        assertEquals(1, saveRequests.claimDueSave(at(1000L)).getRequestCount());
+    }
+
+    private static Calendar at(final long millis) {
+        final Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(millis);
+        return calendar;
+    }
+}
@@ -319,6 +319,35 @@ public class TestFileSystemRepository {
         assertNotSame(claim1.getResourceClaim(), claim2.getResourceClaim());
     }
 
+    @Test
+    public void testArchivedFilesCountedAfterRestart() throws IOException {
+        repository.shutdown();
+
+        final Map<String, String> addProps = new HashMap<>();
+        addProps.put(NiFiProperties.CONTENT_ARCHIVE_ENABLED, "true");
+        addProps.put(NiFiProperties.CONTENT_ARCHIVE_MAX_USAGE_PERCENTAGE, "1%");
+        // No back pressure headroom, so that a wait is required as soon as anything at all has been archived
+        addProps.put(NiFiProperties.CONTENT_ARCHIVE_BACK_PRESSURE_PERCENTAGE, "0%");
+        final NiFiProperties localProps = NiFiProperties.createBasicNiFiProperties(TestFileSystemRepository.class.getResource("/conf/nifi.properties").getFile(), addProps);
+
+        repository = new FileSystemRepository(localProps);
+        final String containerName = repository.getContainerNames().iterator().next();
+        assertEquals(0L, repository.getArchivedFileCount(containerName));
+        assertFalse(repository.isWaitRequired(containerName));
+        repository.shutdown();
+
+        final Path sectionDir = rootFile.toPath().resolve("0");
+        final Path archiveDir = sectionDir.resolve(FileSystemRepository.ARCHIVE_DIR_NAME);
+        Files.createDirectories(archiveDir);
+        Files.write(archiveDir.resolve("1234-5678"), "Hello".getBytes(StandardCharsets.UTF_8));
+        Files.write(sectionDir.resolve("8765-4321"), "World".getBytes(StandardCharsets.UTF_8));
+
+        // Only the file in the archive directory counts as archived, and it is counted on restart so that back pressure applies immediately
+        repository = new FileSystemRepository(localProps);
+        assertEquals(1L, repository.getArchivedFileCount(containerName));
+        assertTrue(repository.isWaitRequired(containerName));
+    }
+
     @Test
     public void testWriteWithNoContent() throws IOException {
         final ContentClaim claim1 = repository.create(false);
@@ -5401,6 +5401,9 @@ public class StandardNiFiServiceFacade implements NiFiServiceFacade {
         PrometheusMetricsUtil.createJvmMetrics(jvmMetricsRegistry, JmxJvmMetrics.getInstance(), instanceId);
 
         // Get Connection Status Analytics (predictions, e.g.)
+        // Clear any previous predictions and bulletins first, so that removed connections and expired bulletins are no longer reported
+        connectionAnalyticsMetricsRegistry.clear();
+        bulletinMetricsRegistry.clear();
         Set<Connection> connections = controllerFacade.getFlowManager().findAllConnections();
         for (Connection c : connections) {
             // If a ResourceNotFoundException is thrown, analytics hasn't been enabled
@@ -221,14 +221,14 @@ public class NiFiRecordSerDe extends AbstractSerDe {
                         val = AvroTypeUtil.convertByteArray(array).array();
                         break;
                     case DATE:
-                        Date d = DataTypeUtils.toDate(fieldValue, () -> DataTypeUtils.getDateFormat(fieldDataType.getFormat()), fieldName);
+                        Date d = DataTypeUtils.toDate(fieldValue, () -> DataTypeUtils.getCachedDateFormat(fieldDataType.getFormat()), fieldName);
                         org.apache.hadoop.hive.common.type.Date hiveDate = new org.apache.hadoop.hive.common.type.Date();
                         hiveDate.setTimeInMillis(d.getTime());
                         val = hiveDate;
                         break;
                     // ORC doesn't currently handle TIMESTAMPLOCALTZ
                     case TIMESTAMP:
-                        Timestamp ts = DataTypeUtils.toTimestamp(fieldValue, () -> DataTypeUtils.getDateFormat(fieldDataType.getFormat()), fieldName);
+                        Timestamp ts = DataTypeUtils.toTimestamp(fieldValue, () -> DataTypeUtils.getCachedDateFormat(fieldDataType.getFormat()), fieldName);
                         // Convert to Hive's Timestamp type
                         org.apache.hadoop.hive.common.type.Timestamp hivetimestamp = new org.apache.hadoop.hive.common.type.Timestamp();
                         hivetimestamp.setTimeInMillis(ts.getTime(), ts.getNanos());
@@ -335,7 +335,7 @@ public abstract class AbstractKuduProcessor extends AbstractProcessor {
                     case UNIXTIME_MICROS:
                         DataType fieldType = record.getSchema().getDataType(recordFieldName).get();
                         Timestamp timestamp = DataTypeUtils.toTimestamp(record.getValue(recordFieldName),
-                                () -> DataTypeUtils.getDateFormat(fieldType.getFormat()), recordFieldName);
+                                () -> DataTypeUtils.getCachedDateFormat(fieldType.getFormat()), recordFieldName);
                         row.addTimestamp(columnIndex, timestamp);
                         break;
                     case STRING:
@@ -357,7 +357,7 @@ public abstract class AbstractKuduProcessor extends AbstractProcessor {
                         row.addVarchar(columnIndex, DataTypeUtils.toString(value, recordFieldName));
                         break;
                     case DATE:
-                        row.addDate(columnIndex, DataTypeUtils.toDate(value, () -> DataTypeUtils.getDateFormat(RecordFieldType.DATE.getDefaultFormat()), recordFieldName));
+                        row.addDate(columnIndex, DataTypeUtils.toDate(value, () -> DataTypeUtils.getCachedDateFormat(RecordFieldType.DATE.getDefaultFormat()), recordFieldName));
                         break;
                     default:
                         throw new IllegalStateException(String.format("unknown column type %s", colType));
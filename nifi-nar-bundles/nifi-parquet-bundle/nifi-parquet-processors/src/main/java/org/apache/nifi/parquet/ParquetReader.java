@@ -47,13 +47,14 @@ public class ParquetReader extends AbstractControllerService implements RecordRe
         final Configuration conf = new Configuration();
         final ParquetConfig parquetConfig = createParquetConfig(getConfigurationContext(), variables);
         applyCommonConfig(conf, parquetConfig);
-        return new ParquetRecordReader(in, inputLength, conf);
+        return new ParquetRecordReader(in, inputLength, conf, parquetConfig.getColumnsToRead());
     }
 
     @Override
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
         final List<PropertyDescriptor> properties = new ArrayList<>();
         properties.add(ParquetUtils.AVRO_READ_COMPATIBILITY);
+        properties.add(ParquetUtils.COLUMNS_TO_READ);
         return properties;
     }
 }
@@ -20,6 +20,7 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.nifi.avro.AvroTypeUtil;
 import org.apache.nifi.parquet.stream.NifiParquetInputFile;
+import org.apache.nifi.parquet.utils.ColumnProjectionReadSupport;
 import org.apache.nifi.serialization.RecordReader;
 import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
@@ -31,6 +32,7 @@ import org.apache.parquet.io.InputFile;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 public class ParquetRecordReader implements RecordReader {
@@ -43,6 +45,18 @@ public class ParquetRecordReader implements RecordReader {
     private final ParquetReader<GenericRecord> parquetReader;
 
     public ParquetRecordReader(final InputStream inputStream, final long inputLength, final Configuration configuration) throws IOException {
+        this(inputStream, inputLength, configuration, null);
+    }
+
+    /**
+     * @param inputStream the stream of the Parquet file
+     * @param inputLength the length of the Parquet file
+     * @param configuration the configuration for the Parquet reader
+     * @param columnsToRead the names of the top-level columns to read, or null to read all columns
+     * @throws IOException if the file cannot be read
+     */
+    public ParquetRecordReader(final InputStream inputStream, final long inputLength, final Configuration configuration, final List<String> columnsToRead)
+            throws IOException {
         if (inputLength < 0) {
             throw new IllegalArgumentException("Invalid input length of '" + inputLength + "'. This record reader requires knowing " +
                     "the length of the InputStream and cannot be used in some cases where the length may not be known.");
@@ -51,7 +65,10 @@ public class ParquetRecordReader implements RecordReader {
         this.inputStream = inputStream;
 
         inputFile = new NifiParquetInputFile(inputStream, inputLength);
-        parquetReader = AvroParquetReader.<GenericRecord>builder(inputFile).withConf(configuration).build();
+        final ParquetReader.Builder<GenericRecord> readerBuilder = columnsToRead == null
+                ? AvroParquetReader.<GenericRecord>builder(inputFile)
+                : ColumnProjectionReadSupport.builder(inputFile, columnsToRead);
+        parquetReader = readerBuilder.withConf(configuration).build();
 
         // Read the first record so that we can extract the schema
         lastParquetRecord = parquetReader.read();
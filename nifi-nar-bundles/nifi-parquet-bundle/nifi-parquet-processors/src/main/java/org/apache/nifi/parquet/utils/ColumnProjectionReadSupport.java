@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.parquet.utils;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.avro.AvroWriteSupport;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An AvroReadSupport that reads only the given top-level columns of a Parquet file. The projection is applied to the
+ * schema of the file when the file is opened, so the column chunks of all other columns are never read or decoded,
+ * and the resulting Avro records contain only the requested fields.
+ * <p>
+ * The Configuration passed to a reader that uses this read support is modified when the file is opened, so each reader
+ * must be given its own Configuration.
+ * </p>
+ */
+public class ColumnProjectionReadSupport extends AvroReadSupport<GenericRecord> {
+
+    private final Set<String> columns;
+
+    public ColumnProjectionReadSupport(final Collection<String> columns) {
+        this.columns = new LinkedHashSet<>(columns);
+    }
+
+    /**
+     * Creates a builder for a ParquetReader that reads only the given columns of the given file
+     *
+     * @param inputFile the file to read
+     * @param columns the names of the top-level columns to read
+     * @return a builder for the reader
+     */
+    public static ParquetReader.Builder<GenericRecord> builder(final InputFile inputFile, final Collection<String> columns) {
+        return new ParquetReader.Builder<GenericRecord>(inputFile) {
+            @Override
+            protected ReadSupport<GenericRecord> getReadSupport() {
+                return new ColumnProjectionReadSupport(columns);
+            }
+        };
+    }
+
+    /**
+     * Creates a builder for a ParquetReader that reads only the given columns of the file at the given path
+     *
+     * @param path the path of the file to read
+     * @param columns the names of the top-level columns to read
+     * @return a builder for the reader
+     */
+    public static ParquetReader.Builder<GenericRecord> builder(final Path path, final Collection<String> columns) {
+        return new ParquetReader.Builder<GenericRecord>(path) {
+            @Override
+            protected ReadSupport<GenericRecord> getReadSupport() {
+                return new ColumnProjectionReadSupport(columns);
+            }
+        };
+    }
+
+    @Override
+    public ReadContext init(final Configuration configuration, final Map<String, String> keyValueMetaData, final MessageType fileSchema) {
+        final List<Type> projectedFields = new ArrayList<>();
+        final Set<String> missingColumns = new LinkedHashSet<>(columns);
+        for (final Type field : fileSchema.getFields()) {
+            if (columns.contains(field.getName())) {
+                projectedFields.add(field);
+                missingColumns.remove(field.getName());
+            }
+        }
+
+        if (!missingColumns.isEmpty()) {
+            throw new IllegalArgumentException("Cannot read columns " + missingColumns + " because they do not exist in the Parquet file");
+        }
+
+        // Use the Avro schema that the file was written with (if any) so that the projected fields keep their original types
+        final String fileAvroSchema = keyValueMetaData.get(AvroWriteSupport.AVRO_SCHEMA);
+        final Schema avroSchema = fileAvroSchema == null
+                ? new AvroSchemaConverter(configuration).convert(fileSchema)
+                : new Schema.Parser().parse(fileAvroSchema);
+
+        setAvroReadSchema(configuration, projectAvroSchema(avroSchema));
+        final ReadContext readContext = super.init(configuration, keyValueMetaData, fileSchema);
+
+        return new ReadContext(new MessageType(fileSchema.getName(), projectedFields), readContext.getReadSupportMetadata());
+    }
+
+    private Schema projectAvroSchema(final Schema avroSchema) {
+        final List<Schema.Field> fields = new ArrayList<>();
+        for (final Schema.Field field : avroSchema.getFields()) {
+            if (columns.contains(field.name())) {
+                // A field cannot belong to more than one schema, so it must be copied
+                final Schema.Field projectedField = new Schema.Field(field.name(), field.schema(), field.doc(), field.defaultVal(), field.order());
+                field.aliases().forEach(projectedField::addAlias);
+                fields.add(projectedField);
+            }
+        }
+
+        return Schema.createRecord(avroSchema.getName(), avroSchema.getDoc(), avroSchema.getNamespace(), avroSchema.isError(), fields);
+    }
+}
@@ -20,6 +20,8 @@ import org.apache.parquet.column.ParquetProperties;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 
+import java.util.List;
+
 public class ParquetConfig {
 
     private Integer rowGroupSize;
@@ -34,6 +36,7 @@ public class ParquetConfig {
     private ParquetProperties.WriterVersion writerVersion;
     private ParquetFileWriter.Mode writerMode;
     private CompressionCodecName compressionCodec;
+    private List<String> columnsToRead;
 
     public Integer getRowGroupSize() {
         return rowGroupSize;
@@ -130,4 +133,12 @@ public class ParquetConfig {
     public void setCompressionCodec(CompressionCodecName compressionCodec) {
         this.compressionCodec = compressionCodec;
     }
+
+    public List<String> getColumnsToRead() {
+        return columnsToRead;
+    }
+
+    public void setColumnsToRead(List<String> columnsToRead) {
+        this.columnsToRead = columnsToRead;
+    }
 }
@@ -126,6 +126,17 @@ public class ParquetUtils {
             .required(true)
             .build();
 
+    public static final PropertyDescriptor COLUMNS_TO_READ = new PropertyDescriptor.Builder()
+            .name("columns-to-read")
+            .displayName("Columns to Read")
+            .description("A comma-separated list of the top-level columns to read. Only the column chunks of these columns are read and decoded, "
+                    + "which can greatly reduce the amount of data that is read from wide files. If not specified, all columns are read. "
+                    + "If any of the columns does not exist in the file, the file cannot be read.")
+            .addValidator(StandardValidators.NON_BLANK_VALIDATOR)
+            .expressionLanguageSupported(ExpressionLanguageScope.FLOWFILE_ATTRIBUTES)
+            .required(false)
+            .build();
+
     public static final List<AllowableValue> COMPRESSION_TYPES = getCompressionTypes();
 
     private static List<AllowableValue> getCompressionTypes() {
@@ -240,6 +251,11 @@ public class ParquetUtils {
             parquetConfig.setAvroReadCompatibility(avroReadCompatibility);
         }
 
+        if (context.getProperty(COLUMNS_TO_READ).isSet()) {
+            final String columnsToRead = context.getProperty(COLUMNS_TO_READ).evaluateAttributeExpressions(variables).getValue();
+            parquetConfig.setColumnsToRead(parseColumnNames(columnsToRead));
+        }
+
         if (context.getProperty(AVRO_ADD_LIST_ELEMENT_RECORDS).isSet()) {
             final boolean avroAddListElementRecords = context.getProperty(AVRO_ADD_LIST_ELEMENT_RECORDS).asBoolean();
             parquetConfig.setAvroAddListElementRecords(avroAddListElementRecords);
@@ -253,6 +269,28 @@ public class ParquetUtils {
         return parquetConfig;
     }
 
+    /**
+     * Parses a comma-separated list of column names, such as the value of the Columns to Read property.
+     *
+     * @param columnNames the comma-separated column names, may be null
+     * @return the column names, or null if no column names were given
+     */
+    public static List<String> parseColumnNames(final String columnNames) {
+        if (columnNames == null) {
+            return null;
+        }
+
+        final List<String> columns = new ArrayList<>();
+        for (final String columnName : columnNames.split(",")) {
+            final String trimmed = columnName.trim();
+            if (!trimmed.isEmpty() && !columns.contains(trimmed)) {
+                columns.add(trimmed);
+            }
+        }
+
+        return columns.isEmpty() ? null : columns;
+    }
+
     public static void applyCommonConfig(final ParquetWriter.Builder<?, ?> builder, final Configuration conf,
                                          final ParquetConfig parquetConfig) {
         builder.withConf(conf);
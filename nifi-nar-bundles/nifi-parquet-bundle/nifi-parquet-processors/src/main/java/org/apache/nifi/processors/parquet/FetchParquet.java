@@ -28,15 +28,20 @@ import org.apache.nifi.annotation.behavior.WritesAttributes;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.SeeAlso;
 import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.components.RequiredPermission;
 import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processors.hadoop.AbstractFetchHDFSRecord;
 import org.apache.nifi.processors.hadoop.record.HDFSRecordReader;
 import org.apache.nifi.parquet.hadoop.AvroParquetHDFSRecordReader;
+import org.apache.nifi.parquet.utils.ColumnProjectionReadSupport;
+import org.apache.nifi.parquet.utils.ParquetUtils;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 
 @SupportsBatching
 @InputRequirement(InputRequirement.Requirement.INPUT_REQUIRED)
@@ -58,10 +63,24 @@ import java.io.IOException;
 })
 public class FetchParquet extends AbstractFetchHDFSRecord {
 
+    @Override
+    public List<PropertyDescriptor> getAdditionalProperties() {
+        return Collections.singletonList(ParquetUtils.COLUMNS_TO_READ);
+    }
+
     @Override
     public HDFSRecordReader createHDFSRecordReader(final ProcessContext context, final FlowFile flowFile, final Configuration conf, final Path path)
             throws IOException {
-        final ParquetReader.Builder<GenericRecord> readerBuilder = AvroParquetReader.<GenericRecord>builder(path).withConf(conf);
+        final List<String> columnsToRead = ParquetUtils.parseColumnNames(
+                context.getProperty(ParquetUtils.COLUMNS_TO_READ).evaluateAttributeExpressions(flowFile).getValue());
+
+        final ParquetReader.Builder<GenericRecord> readerBuilder;
+        if (columnsToRead == null) {
+            readerBuilder = AvroParquetReader.<GenericRecord>builder(path).withConf(conf);
+        } else {
+            // The projection is applied to the Configuration when the file is opened, so it must not be shared
+            readerBuilder = ColumnProjectionReadSupport.builder(path, columnsToRead).withConf(new Configuration(conf));
+        }
         return new AvroParquetHDFSRecordReader(readerBuilder.build());
     }
 
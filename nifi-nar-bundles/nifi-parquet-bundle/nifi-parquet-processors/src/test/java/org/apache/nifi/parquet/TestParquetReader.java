@@ -26,9 +26,11 @@ import org.apache.hadoop.fs.Path;
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.controller.ConfigurationContext;
 import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.parquet.utils.ParquetUtils;
 import org.apache.nifi.reporting.InitializationException;
 import org.apache.nifi.serialization.MalformedRecordException;
 import org.apache.nifi.serialization.RecordReader;
+import org.apache.nifi.serialization.record.Record;
 import org.apache.nifi.util.MockComponentLog;
 import org.apache.nifi.util.MockConfigurationContext;
 import org.apache.nifi.util.TestRunner;
@@ -51,6 +53,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class TestParquetReader {
 
@@ -109,6 +112,42 @@ public class TestParquetReader {
         }
     }
 
+    @Test
+    public void testReadUsersWithColumnsToRead() throws IOException, MalformedRecordException {
+        final Schema schema = getSchema("src/test/resources/avro/user.avsc");
+        final File parquetFile = new File("target/TestParquetReader-testReadUsersWithColumnsToRead-" + System.currentTimeMillis());
+
+        final int numUsers = 10;
+        try (final ParquetWriter<GenericRecord> writer = createParquetWriter(schema, parquetFile)) {
+            for (int i=0; i < numUsers; i++) {
+                final GenericRecord user = new GenericData.Record(schema);
+                user.put("name", "Bob" + i);
+                user.put("favorite_number", i);
+                user.put("favorite_color", "blue" + i);
+                writer.write(user);
+            }
+        }
+
+        readerFactoryProperties.put(ParquetUtils.COLUMNS_TO_READ, "${columns}");
+        final byte[] parquetBytes = IOUtils.toByteArray(parquetFile.toURI());
+
+        try (final InputStream in = new ByteArrayInputStream(parquetBytes);
+             final RecordReader recordReader = parquetReaderFactory.createRecordReader(
+                     Collections.singletonMap("columns", "favorite_number"), in, parquetFile.length(), componentLog)) {
+
+            assertEquals(Collections.singletonList("favorite_number"), recordReader.getSchema().getFieldNames());
+
+            int recordCount = 0;
+            Record record;
+            while ((record = recordReader.nextRecord()) != null) {
+                assertEquals(recordCount, record.getAsInt("favorite_number").intValue());
+                assertNull(record.getValue("name"));
+                recordCount++;
+            }
+            assertEquals(numUsers, recordCount);
+        }
+    }
+
     @Test
     public void testReader() throws InitializationException, IOException  {
         final TestRunner runner = TestRunners.newTestRunner(TestParquetProcessor.class);
@@ -27,6 +27,7 @@ import org.apache.hadoop.fs.Path;
 import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.parquet.utils.ParquetUtils;
 import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processors.hadoop.record.HDFSRecordReader;
 import org.apache.nifi.reporting.InitializationException;
@@ -45,6 +46,7 @@ import org.junit.Assert;
 import org.junit.Assume;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.AdditionalMatchers;
 import org.mockito.Mockito;
@@ -55,9 +57,11 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -324,6 +328,104 @@ public class FetchParquetTest {
         testRunner.assertAllFlowFilesTransferred(FetchParquet.REL_SUCCESS, 1);
     }
 
+    @Test
+    public void testFetchParquetWithColumnsToRead() throws IOException, InitializationException {
+        configure(proc);
+        testRunner.setProperty(ParquetUtils.COLUMNS_TO_READ, "favorite_color, name");
+
+        final File parquetDir = new File(DIRECTORY);
+        final File parquetFile = new File(parquetDir,"testFetchParquetWithColumnsToRead.parquet");
+        final int numUsers = 10;
+        writeParquetUsers(parquetFile, numUsers);
+
+        final Map<String,String> attributes = new HashMap<>();
+        attributes.put(CoreAttributes.PATH.key(), parquetDir.getAbsolutePath());
+        attributes.put(CoreAttributes.FILENAME.key(), parquetFile.getName());
+
+        testRunner.enqueue("TRIGGER", attributes);
+        testRunner.run();
+        testRunner.assertAllFlowFilesTransferred(FetchParquet.REL_SUCCESS, 1);
+
+        final MockFlowFile flowFile = testRunner.getFlowFilesForRelationship(FetchParquet.REL_SUCCESS).get(0);
+        flowFile.assertAttributeEquals(FetchParquet.RECORD_COUNT_ATTR, String.valueOf(numUsers));
+
+        // the columns are read in the order in which they appear in the file
+        final String flowFileContent = new String(flowFile.toByteArray(), StandardCharsets.UTF_8).replaceAll(RECORD_HEADER + "\n", "");
+        final String[] splits = flowFileContent.split("[\\n]");
+        Assert.assertEquals(numUsers, splits.length);
+        for (int i=0; i < numUsers; i++) {
+            Assert.assertEquals("Bob" + i + ",blue" + i, splits[i]);
+        }
+    }
+
+    @Test
+    public void testFetchParquetWithMissingColumnToReadShouldRouteToFailure() throws IOException, InitializationException {
+        configure(proc);
+        testRunner.setProperty(ParquetUtils.COLUMNS_TO_READ, "name,does_not_exist");
+
+        final File parquetDir = new File(DIRECTORY);
+        final File parquetFile = new File(parquetDir,"testFetchParquetWithMissingColumnToRead.parquet");
+        writeParquetUsers(parquetFile, 10);
+
+        final Map<String,String> attributes = new HashMap<>();
+        attributes.put(CoreAttributes.PATH.key(), parquetDir.getAbsolutePath());
+        attributes.put(CoreAttributes.FILENAME.key(), parquetFile.getName());
+
+        testRunner.enqueue("TRIGGER", attributes);
+        testRunner.run();
+        testRunner.assertAllFlowFilesTransferred(FetchParquet.REL_FAILURE, 1);
+        testRunner.getFlowFilesForRelationship(FetchParquet.REL_FAILURE).get(0).assertContentEquals("TRIGGER");
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testFetchWideParquetPerformance() throws IOException, InitializationException {
+        final int columnCount = 200;
+        final int rowCount = 100_000;
+
+        final List<Schema.Field> fields = new ArrayList<>();
+        for (int i = 0; i < columnCount; i++) {
+            fields.add(new Schema.Field("column_" + i, Schema.create(Schema.Type.STRING), null, (Object) null));
+        }
+        final Schema wideSchema = Schema.createRecord("wide", null, "org.apache.nifi", false, fields);
+
+        final File parquetFile = new File(DIRECTORY, "testFetchWideParquetPerformance.parquet");
+        if (parquetFile.exists()) {
+            Assert.assertTrue(parquetFile.delete());
+        }
+        try (final ParquetWriter<GenericRecord> writer = createAvroParquetWriter(parquetFile, wideSchema).build()) {
+            for (int row = 0; row < rowCount; row++) {
+                final GenericRecord record = new GenericData.Record(wideSchema);
+                for (int i = 0; i < columnCount; i++) {
+                    record.put(i, "value " + row + "-" + i);
+                }
+                writer.write(record);
+            }
+        }
+
+        final Map<String,String> attributes = new HashMap<>();
+        attributes.put(CoreAttributes.PATH.key(), parquetFile.getParentFile().getAbsolutePath());
+        attributes.put(CoreAttributes.FILENAME.key(), parquetFile.getName());
+
+        for (final String columnsToRead : new String[] {null, "column_0,column_1,column_2"}) {
+            configure(new FetchParquet());
+            if (columnsToRead != null) {
+                testRunner.setProperty(ParquetUtils.COLUMNS_TO_READ, columnsToRead);
+            }
+
+            for (int iteration = 0; iteration < 3; iteration++) {
+                testRunner.enqueue("TRIGGER", attributes);
+                final long start = System.nanoTime();
+                testRunner.run();
+                final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                testRunner.assertAllFlowFilesTransferred(FetchParquet.REL_SUCCESS, 1);
+                testRunner.clearTransferState();
+                System.out.println("Fetched " + rowCount + " rows reading columns " + (columnsToRead == null ? "<all>" : columnsToRead) + " in " + millis + " millis");
+            }
+        }
+    }
+
     protected void verifyCSVRecords(int numUsers, String csvContent) {
         final String[] splits = csvContent.split("[\\n]");
         Assert.assertEquals(numUsers, splits.length);
@@ -27,8 +27,10 @@ import org.apache.nifi.annotation.lifecycle.OnStopped;
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.controller.ConfigurationContext;
 import org.apache.nifi.controller.status.ProcessGroupStatus;
+import org.apache.nifi.expression.ExpressionLanguageScope;
 import org.apache.nifi.metrics.jvm.JmxJvmMetrics;
 import org.apache.nifi.processor.exception.ProcessException;
+import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.prometheus.util.JvmMetricsRegistry;
 import org.apache.nifi.prometheus.util.NiFiMetricsRegistry;
 import org.apache.nifi.prometheus.util.PrometheusMetricsUtil;
@@ -88,6 +90,16 @@ public class PrometheusReportingTask extends AbstractReportingTask {
             .required(true)
             .build();
 
+    public static final PropertyDescriptor PROCESS_GROUP_ID = new PropertyDescriptor.Builder()
+            .name("prometheus-reporting-task-process-group-id")
+            .displayName("Process Group ID")
+            .description("The identifier of the Process Group to report metrics for. If not specified, metrics are reported for the entire flow. "
+                    + "Reporting a single Process Group avoids walking and serializing the status of the whole flow on every scrape.")
+            .required(false)
+            .addValidator(StandardValidators.NON_BLANK_VALIDATOR)
+            .expressionLanguageSupported(ExpressionLanguageScope.VARIABLE_REGISTRY)
+            .build();
+
     private static final List<PropertyDescriptor> properties;
 
     static {
@@ -95,6 +107,7 @@ public class PrometheusReportingTask extends AbstractReportingTask {
         props.add(PrometheusMetricsUtil.METRICS_ENDPOINT_PORT);
         props.add(PrometheusMetricsUtil.INSTANCE_ID);
         props.add(METRICS_STRATEGY);
+        props.add(PROCESS_GROUP_ID);
         props.add(SEND_JVM_METRICS);
         props.add(SSL_CONTEXT);
         props.add(PrometheusMetricsUtil.CLIENT_AUTH);
@@ -133,13 +146,24 @@ public class PrometheusReportingTask extends AbstractReportingTask {
             }
             Function<ReportingContext, CollectorRegistry> nifiMetrics = (reportingContext) -> {
                 EventAccess eventAccess = reportingContext.getEventAccess();
-                ProcessGroupStatus rootGroupStatus = eventAccess.getControllerStatus();
                 String instanceId = reportingContext.getProperty(PrometheusMetricsUtil.INSTANCE_ID).evaluateAttributeExpressions().getValue();
                 if (instanceId == null) {
                     instanceId = "";
                 }
                 String metricsStrategy = reportingContext.getProperty(METRICS_STRATEGY).getValue();
                 NiFiMetricsRegistry nifiMetricsRegistry = new NiFiMetricsRegistry();
+
+                final String groupId = reportingContext.getProperty(PROCESS_GROUP_ID).evaluateAttributeExpressions().getValue();
+                if (groupId != null) {
+                    final ProcessGroupStatus groupStatus = eventAccess.getGroupStatus(groupId);
+                    if (groupStatus == null) {
+                        getLogger().warn("Unable to report metrics for Process Group with ID {} because no such Process Group exists", new Object[]{groupId});
+                        return nifiMetricsRegistry.getRegistry();
+                    }
+                    return PrometheusMetricsUtil.createNifiMetrics(nifiMetricsRegistry, groupStatus, instanceId, "", "ProcessGroup", metricsStrategy);
+                }
+
+                ProcessGroupStatus rootGroupStatus = eventAccess.getControllerStatus();
                 CollectorRegistry collectorRegistry = PrometheusMetricsUtil.createNifiMetrics(nifiMetricsRegistry, rootGroupStatus, instanceId, "", "RootProcessGroup", metricsStrategy);
                 // Add the total byte counts (read/written) to the NiFi metrics registry
                 final String rootPGId = StringUtils.isEmpty(rootGroupStatus.getId()) ? "" : rootGroupStatus.getId();
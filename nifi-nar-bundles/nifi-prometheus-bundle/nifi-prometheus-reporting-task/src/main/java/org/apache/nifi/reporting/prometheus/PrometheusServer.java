@@ -38,10 +38,13 @@ import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.HttpURLConnection;
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
@@ -62,20 +65,21 @@ public class PrometheusServer {
                 logger.debug("PrometheusServer Do get called");
             }
 
-            ServletOutputStream response = resp.getOutputStream();
-            OutputStreamWriter osw = new OutputStreamWriter(response);
+            // Headers must be set before any of the body is written, or they will not be sent
+            resp.setHeader("Content-Type", TextFormat.CONTENT_TYPE_004);
+            resp.setStatus(HttpURLConnection.HTTP_OK);
 
+            final ServletOutputStream response = resp.getOutputStream();
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(response, StandardCharsets.UTF_8));
             for(Function<ReportingContext, CollectorRegistry> mc : metricsCollectors) {
                 CollectorRegistry collectorRegistry = mc.apply(getReportingContext());
-                TextFormat.write004(osw, collectorRegistry.metricFamilySamples());
+                TextFormat.write004(writer, collectorRegistry.metricFamilySamples());
             }
 
-            osw.flush();
-            osw.close();
+            writer.flush();
+            writer.close();
             response.flush();
             response.close();
-            resp.setHeader("Content-Type", TextFormat.CONTENT_TYPE_004);
-            resp.setStatus(HttpURLConnection.HTTP_OK);
             resp.flushBuffer();
         }
     }
@@ -155,12 +155,39 @@ public class PrometheusReportingTaskIT {
         }
     }
 
+    @Test
+    public void testProcessGroupFilter() throws IOException, InitializationException {
+        final ProcessGroupStatus nestedGroupStatus = rootGroupStatus.getProcessGroupStatus().iterator().next();
+        reportingContextStub.setProperty(PrometheusReportingTask.PROCESS_GROUP_ID.getName(), "3378");
+        configurationContextStub = new MockConfigurationContext(reportingContextStub.getProperties(),
+                reportingContextStub.getControllerServiceLookup());
+
+        testedReportingTask.initialize(reportingInitContextStub);
+        testedReportingTask.onScheduled(configurationContextStub);
+        reportingContextStub.getEventAccess().setProcessGroupStatus(rootGroupStatus);
+        reportingContextStub.getEventAccess().setProcessGroupStatus("3378", nestedGroupStatus);
+        testedReportingTask.onTrigger(reportingContextStub);
+
+        String content = getMetrics();
+        Assert.assertTrue(content.contains(
+                "nifi_amount_threads_active{instance=\"localhost\",component_type=\"ProcessGroup\",component_name=\"nestedPG\",component_id=\"3378\",parent_id=\"\",} 2.0"));
+        Assert.assertFalse(content.contains("component_id=\"1234\""));
+        Assert.assertFalse(content.contains("nifi_total_bytes_read{"));
+
+        try {
+            testedReportingTask.OnStopped();
+        } catch (Exception e) {
+            // Ignore
+        }
+    }
+
     private String getMetrics() throws IOException {
         URL url = new URL("http://localhost:9092/metrics");
         HttpURLConnection con = (HttpURLConnection) url.openConnection();
         con.setRequestMethod("GET");
         int status = con.getResponseCode();
         Assert.assertEquals(HttpURLConnection.HTTP_OK, status);
+        Assert.assertTrue(con.getContentType().contains("version=0.0.4"));
 
         HttpClient client = HttpClientBuilder.create().build();
         HttpGet request = new HttpGet("http://localhost:9092/metrics");
@@ -50,6 +50,8 @@ import org.apache.nifi.search.SearchResult;
 import org.apache.nifi.search.Searchable;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
@@ -60,6 +62,7 @@ import java.nio.charset.Charset;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -93,6 +96,7 @@ public class ExecuteScript extends AbstractSessionFactoryProcessor implements Se
     public static final Relationship REL_FAILURE = ScriptingComponentUtils.REL_FAILURE;
 
     private volatile String scriptToRun = null;
+    private volatile Map<ScriptEngine, CompiledScript> compiledScripts = Collections.emptyMap();
     volatile ScriptingComponentHelper scriptingComponentHelper = new ScriptingComponentHelper();
 
 
@@ -174,6 +178,47 @@ public class ExecuteScript extends AbstractSessionFactoryProcessor implements Se
         } catch (IOException ioe) {
             throw new ProcessException(ioe);
         }
+
+        compiledScripts = compileScripts();
+    }
+
+    /**
+     * Compiles the script once for each of the script engines, so that onTrigger() does not need to parse the script on
+     * every invocation. Engines that do not support compilation, or for which the script fails to compile, are not
+     * included in the returned map; the script is evaluated directly for those engines, which reports any error in
+     * the same way as before.
+     *
+     * @return a map of script engine to the script compiled by that engine
+     */
+    private Map<ScriptEngine, CompiledScript> compileScripts() {
+        if (scriptToRun == null || scriptingComponentHelper.engineQ == null) {
+            return Collections.emptyMap();
+        }
+
+        final ScriptEngineConfigurator configurator =
+                scriptingComponentHelper.scriptEngineConfiguratorMap.get(scriptingComponentHelper.getScriptEngineName().toLowerCase());
+
+        final Map<ScriptEngine, CompiledScript> compiled = new IdentityHashMap<>();
+        for (final ScriptEngine scriptEngine : scriptingComponentHelper.engineQ) {
+            try {
+                final CompiledScript compiledScript;
+                if (configurator != null) {
+                    compiledScript = configurator.compile(scriptEngine, scriptToRun, scriptingComponentHelper.getModules());
+                } else if (scriptEngine instanceof Compilable) {
+                    compiledScript = ((Compilable) scriptEngine).compile(scriptToRun);
+                } else {
+                    compiledScript = null;
+                }
+
+                if (compiledScript != null) {
+                    compiled.put(scriptEngine, compiledScript);
+                }
+            } catch (final ScriptException e) {
+                getLogger().debug("Unable to compile script; it will be evaluated on each invocation instead", e);
+            }
+        }
+
+        return compiled;
     }
 
     /**
@@ -230,8 +275,11 @@ public class ExecuteScript extends AbstractSessionFactoryProcessor implements Se
                 ScriptEngineConfigurator configurator =
                         scriptingComponentHelper.scriptEngineConfiguratorMap.get(scriptingComponentHelper.getScriptEngineName().toLowerCase());
 
-                // Evaluate the script with the configurator (if it exists) or the engine
-                if (configurator != null) {
+                // Evaluate the compiled script if there is one, otherwise the script with the configurator (if it exists) or the engine
+                final CompiledScript compiledScript = compiledScripts.get(scriptEngine);
+                if (compiledScript != null) {
+                    compiledScript.eval();
+                } else if (configurator != null) {
                     configurator.eval(scriptEngine, scriptToRun, scriptingComponentHelper.getModules());
                 } else {
                     scriptEngine.eval(scriptToRun);
@@ -265,6 +313,7 @@ public class ExecuteScript extends AbstractSessionFactoryProcessor implements Se
 
     @OnStopped
     public void stop() {
+        compiledScripts = Collections.emptyMap();
         scriptingComponentHelper.stop();
     }
 
@@ -19,6 +19,7 @@ package org.apache.nifi.processors.script;
 
 import org.apache.nifi.logging.ComponentLog;
 
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import java.net.URL;
@@ -37,4 +38,19 @@ public interface ScriptEngineConfigurator {
 
     Object eval(ScriptEngine engine, String scriptBody, String[] modulePaths) throws ScriptException;
 
+    /**
+     * Compiles the given script body so that it can be evaluated repeatedly without being parsed each time. The returned
+     * script must behave the same as calling {@link #eval(ScriptEngine, String, String[])} with the same arguments.
+     *
+     * @param engine the engine to compile the script with
+     * @param scriptBody the script to compile
+     * @param modulePaths the module paths configured for the component
+     * @return the compiled script, or null if the engine does not support compilation, in which case the script will be
+     * evaluated using {@link #eval(ScriptEngine, String, String[])}
+     * @throws ScriptException if the script cannot be compiled
+     */
+    default CompiledScript compile(ScriptEngine engine, String scriptBody, String[] modulePaths) throws ScriptException {
+        return null;
+    }
+
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.nifi.script.impl;
 
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
@@ -54,4 +56,12 @@ public class GroovyScriptEngineConfigurator extends AbstractModuleClassloaderCon
         scriptEngine = engine;
         return engine.eval(PRELOADS + scriptBody);
     }
+
+    @Override
+    public CompiledScript compile(ScriptEngine engine, String scriptBody, String[] modulePaths) throws ScriptException {
+        if (engine instanceof Compilable) {
+            return ((Compilable) engine).compile(PRELOADS + scriptBody);
+        }
+        return null;
+    }
 }
@@ -16,6 +16,8 @@
  */
 package org.apache.nifi.script.impl;
 
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 
@@ -39,4 +41,12 @@ public class JavascriptScriptEngineConfigurator extends AbstractModuleClassloade
     public Object eval(ScriptEngine engine, String scriptBody, String[] modulePaths) throws ScriptException {
         return engine.eval(scriptBody);
     }
+
+    @Override
+    public CompiledScript compile(ScriptEngine engine, String scriptBody, String[] modulePaths) throws ScriptException {
+        if (engine instanceof Compilable) {
+            return ((Compilable) engine).compile(scriptBody);
+        }
+        return null;
+    }
 }
@@ -20,6 +20,8 @@ import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.processors.script.ScriptEngineConfigurator;
 import org.python.core.PyString;
 
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
 import java.net.URL;
@@ -63,4 +65,12 @@ public class JythonScriptEngineConfigurator implements ScriptEngineConfigurator
         }
         return returnValue;
     }
+
+    @Override
+    public CompiledScript compile(ScriptEngine engine, String scriptBody, String[] modulePaths) throws ScriptException {
+        if (engine instanceof Compilable) {
+            return ((Compilable) engine).compile(scriptBody);
+        }
+        return null;
+    }
 }
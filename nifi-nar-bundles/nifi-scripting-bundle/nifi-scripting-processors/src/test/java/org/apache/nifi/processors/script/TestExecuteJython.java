@@ -19,10 +19,13 @@ package org.apache.nifi.processors.script;
 import org.apache.nifi.script.ScriptingComponentUtils;
 import org.apache.nifi.util.MockFlowFile;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Unit tests for ExecuteScript with Jython.
@@ -75,4 +78,62 @@ public class TestExecuteJython extends BaseScriptTest {
         runner.run();
 
     }
+
+    /**
+     * Tests that a script (which is compiled once when the processor is scheduled) sees the bindings of each invocation.
+     *
+     * @throws Exception Any error encountered while testing
+     */
+    @Test
+    public void testCompiledScriptEvaluatedForEachInvocation() throws Exception {
+        runner.setValidateExpressionUsage(false);
+        runner.setProperty(scriptingComponent.getScriptingComponentHelper().SCRIPT_ENGINE, "python");
+        runner.setProperty(ScriptingComponentUtils.SCRIPT_BODY,
+                "from org.apache.nifi.processors.script import ExecuteScript\n"
+                        + "flowFile = session.get()\n"
+                        + "if flowFile is not None:\n"
+                        + "  flowFile = session.putAttribute(flowFile, \"copy\", flowFile.getAttribute(\"original\"))\n"
+                        + "  session.transfer(flowFile, ExecuteScript.REL_SUCCESS)");
+
+        runner.assertValid();
+        for (int i = 0; i < 3; i++) {
+            runner.enqueue("test content".getBytes(StandardCharsets.UTF_8), Collections.singletonMap("original", String.valueOf(i)));
+        }
+        runner.run(3);
+
+        runner.assertAllFlowFilesTransferred(ExecuteScript.REL_SUCCESS, 3);
+        final List<MockFlowFile> result = runner.getFlowFilesForRelationship(ExecuteScript.REL_SUCCESS);
+        for (int i = 0; i < 3; i++) {
+            result.get(i).assertAttributeEquals("copy", String.valueOf(i));
+        }
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testPerformance() throws Exception {
+        runner.setValidateExpressionUsage(false);
+        runner.setProperty(scriptingComponent.getScriptingComponentHelper().SCRIPT_ENGINE, "python");
+        runner.setProperty(ScriptingComponentUtils.SCRIPT_BODY,
+                "from org.apache.nifi.processors.script import ExecuteScript\n"
+                        + "flowFile = session.get()\n"
+                        + "if flowFile is not None:\n"
+                        + "  flowFile = session.putAttribute(flowFile, \"from-content\", \"test content\")\n"
+                        + "  session.transfer(flowFile, ExecuteScript.REL_SUCCESS)");
+
+        final int flowFileCount = 10_000;
+        for (int iteration = 0; iteration < 5; iteration++) {
+            for (int i = 0; i < flowFileCount; i++) {
+                runner.enqueue("test content".getBytes(StandardCharsets.UTF_8));
+            }
+
+            final long start = System.nanoTime();
+            runner.run(flowFileCount);
+            final long nanos = System.nanoTime() - start;
+
+            runner.assertAllFlowFilesTransferred(ExecuteScript.REL_SUCCESS, flowFileCount);
+            runner.clearTransferState();
+            System.out.println("Processed " + flowFileCount + " FlowFiles in " + TimeUnit.NANOSECONDS.toMillis(nanos) + " millis ("
+                    + nanos / flowFileCount / 1000 + " micros per FlowFile)");
+        }
+    }
 }
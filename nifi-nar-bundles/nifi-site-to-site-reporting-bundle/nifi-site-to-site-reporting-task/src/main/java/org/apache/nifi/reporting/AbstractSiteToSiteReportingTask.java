@@ -209,9 +209,9 @@ public abstract class AbstractSiteToSiteReportingTask extends AbstractReportingT
         private final JsonNode firstJsonNode;
         private boolean firstObjectConsumed = false;
 
-        private final Supplier<DateFormat> dateFormat = () -> DataTypeUtils.getDateFormat(RecordFieldType.DATE.getDefaultFormat());
-        private final Supplier<DateFormat> timeFormat = () -> DataTypeUtils.getDateFormat(RecordFieldType.TIME.getDefaultFormat());
-        private final Supplier<DateFormat> timestampFormat = () -> DataTypeUtils.getDateFormat(RecordFieldType.TIMESTAMP.getDefaultFormat());
+        private final Supplier<DateFormat> dateFormat = () -> DataTypeUtils.getCachedDateFormat(RecordFieldType.DATE.getDefaultFormat());
+        private final Supplier<DateFormat> timeFormat = () -> DataTypeUtils.getCachedDateFormat(RecordFieldType.TIME.getDefaultFormat());
+        private final Supplier<DateFormat> timestampFormat = () -> DataTypeUtils.getCachedDateFormat(RecordFieldType.TIMESTAMP.getDefaultFormat());
 
         public JsonRecordReader(final InputStream in, RecordSchema recordSchema) throws IOException, MalformedRecordException {
             this.recordSchema = recordSchema;
@@ -418,7 +418,7 @@ public class SolrUtils {
 
         switch (chosenDataType.getFieldType()) {
             case DATE: {
-                final String stringValue = DataTypeUtils.toString(coercedValue, () -> DataTypeUtils.getDateFormat(RecordFieldType.DATE.getDefaultFormat()));
+                final String stringValue = DataTypeUtils.toString(coercedValue, () -> DataTypeUtils.getCachedDateFormat(RecordFieldType.DATE.getDefaultFormat()));
                 if (DataTypeUtils.isLongTypeCompatible(stringValue)) {
                     LocalDate localDate = getLocalDateFromEpochTime(fieldName, coercedValue);
                     addFieldToSolrDocument(inputDocument,fieldName,localDate.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)+'Z',fieldsToIndex);
@@ -428,7 +428,7 @@ public class SolrUtils {
                 break;
             }
             case TIMESTAMP: {
-                final String stringValue = DataTypeUtils.toString(coercedValue, () -> DataTypeUtils.getDateFormat(RecordFieldType.TIMESTAMP.getDefaultFormat()));
+                final String stringValue = DataTypeUtils.toString(coercedValue, () -> DataTypeUtils.getCachedDateFormat(RecordFieldType.TIMESTAMP.getDefaultFormat()));
                 if (DataTypeUtils.isLongTypeCompatible(stringValue)) {
                     LocalDateTime localDateTime = getLocalDateTimeFromEpochTime(fieldName, coercedValue);
                     addFieldToSolrDocument(inputDocument,fieldName,localDateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)+'Z',fieldsToIndex);
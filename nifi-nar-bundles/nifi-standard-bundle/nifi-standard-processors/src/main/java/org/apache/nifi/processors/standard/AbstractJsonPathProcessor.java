@@ -16,6 +16,7 @@
  */
 package org.apache.nifi.processors.standard;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
@@ -116,6 +117,13 @@ public abstract class AbstractJsonPathProcessor extends AbstractProcessor {
         return JSON_PROVIDER.toJson(jsonPathResult);
     }
 
+    /**
+     * @return the ObjectMapper that JSON content is parsed with, for reading content that is streamed rather than evaluated as a document
+     */
+    static ObjectMapper getObjectMapper() {
+        return ((JacksonJsonProvider) JSON_PROVIDER).getObjectMapper();
+    }
+
     abstract static class JsonPathValidator implements Validator {
 
         @Override
@@ -34,6 +34,8 @@ import org.apache.nifi.annotation.behavior.SystemResourceConsideration;
 import org.apache.nifi.annotation.behavior.WritesAttribute;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.annotation.lifecycle.OnScheduled;
+import org.apache.nifi.annotation.lifecycle.OnStopped;
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.components.ValidationContext;
 import org.apache.nifi.components.ValidationResult;
@@ -47,6 +49,8 @@ import org.apache.nifi.processor.ProcessorInitializationContext;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.processor.io.StreamCallback;
+import org.apache.nifi.processor.util.StandardValidators;
+import org.apache.nifi.processors.standard.util.ParallelGZIPOutputStream;
 import org.apache.nifi.stream.io.GZIPOutputStream;
 import org.apache.nifi.util.StopWatch;
 import org.tukaani.xz.LZMA2Options;
@@ -72,6 +76,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.Deflater;
@@ -136,6 +143,18 @@ public class CompressContent extends AbstractProcessor {
         .dependsOn(MODE, MODE_COMPRESS)
         .build();
 
+    public static final PropertyDescriptor COMPRESSION_THREADS = new PropertyDescriptor.Builder()
+        .name("Compression Threads")
+        .description("The number of threads to use to compress each FlowFile; this is valid only when using gzip compression. When greater than 1, the content "
+            + "is divided into blocks that are compressed concurrently, in the same way as pigz, and the result is still a single, standard gzip stream. "
+            + "The threads are shared by all concurrent tasks of this processor, and each task may hold up to twice this many 128 KB blocks in memory.")
+        .defaultValue("1")
+        .required(true)
+        .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+        .dependsOn(COMPRESSION_FORMAT, COMPRESSION_FORMAT_ATTRIBUTE, COMPRESSION_FORMAT_GZIP)
+        .dependsOn(MODE, MODE_COMPRESS)
+        .build();
+
     public static final PropertyDescriptor UPDATE_FILENAME = new PropertyDescriptor.Builder()
         .name("Update Filename")
         .description("If true, will remove the filename extension when decompressing data (only if the extension indicates the appropriate "
@@ -157,6 +176,8 @@ public class CompressContent extends AbstractProcessor {
     private List<PropertyDescriptor> properties;
     private Set<Relationship> relationships;
     private Map<String, String> compressionFormatMimeTypeMap;
+    private volatile int compressionThreads;
+    private volatile ExecutorService compressionExecutor;
 
     @Override
     protected void init(final ProcessorInitializationContext context) {
@@ -164,6 +185,7 @@ public class CompressContent extends AbstractProcessor {
         properties.add(MODE);
         properties.add(COMPRESSION_FORMAT);
         properties.add(COMPRESSION_LEVEL);
+        properties.add(COMPRESSION_THREADS);
         properties.add(UPDATE_FILENAME);
         this.properties = Collections.unmodifiableList(properties);
 
@@ -211,6 +233,32 @@ public class CompressContent extends AbstractProcessor {
         return validationResults;
     }
 
+    @OnScheduled
+    public void setupExecutor(final ProcessContext context) {
+        compressionThreads = context.getProperty(COMPRESSION_THREADS).asInteger();
+        if (compressionThreads > 1) {
+            compressionExecutor = Executors.newFixedThreadPool(compressionThreads, new ThreadFactory() {
+                private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+
+                @Override
+                public Thread newThread(final Runnable r) {
+                    final Thread t = defaultFactory.newThread(r);
+                    t.setName("CompressContent " + getIdentifier() + " Compression Task");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+    }
+
+    @OnStopped
+    public void shutdownExecutor() {
+        if (compressionExecutor != null) {
+            compressionExecutor.shutdownNow();
+            compressionExecutor = null;
+        }
+    }
+
     @Override
     public void onTrigger(final ProcessContext context, final ProcessSession session) {
         FlowFile flowFile = session.get();
@@ -295,7 +343,12 @@ public class CompressContent extends AbstractProcessor {
                             switch (compressionFormat.toLowerCase()) {
                                 case COMPRESSION_FORMAT_GZIP:
                                     int compressionLevel = context.getProperty(COMPRESSION_LEVEL).asInteger();
-                                    compressionOut = new GZIPOutputStream(bufferedOut, compressionLevel);
+                                    final ExecutorService executor = compressionExecutor;
+                                    if (executor == null) {
+                                        compressionOut = new GZIPOutputStream(bufferedOut, compressionLevel);
+                                    } else {
+                                        compressionOut = new ParallelGZIPOutputStream(bufferedOut, compressionLevel, executor, compressionThreads);
+                                    }
                                     mimeTypeRef.set("application/gzip");
                                     break;
                                 case COMPRESSION_FORMAT_DEFLATE:
@@ -19,9 +19,15 @@ package org.apache.nifi.processors.standard;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.nifi.annotation.behavior.EventDriven;
 import org.apache.nifi.annotation.behavior.InputRequirement;
@@ -30,7 +36,11 @@ import org.apache.nifi.annotation.behavior.SupportsBatching;
 import org.apache.nifi.annotation.behavior.WritesAttribute;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.Tags;
+import org.apache.nifi.annotation.lifecycle.OnScheduled;
+import org.apache.nifi.annotation.lifecycle.OnStopped;
 import org.apache.nifi.components.PropertyDescriptor;
+import org.apache.nifi.components.ValidationResult;
+import org.apache.nifi.components.Validator;
 import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.logging.ComponentLog;
 import org.apache.nifi.processor.AbstractProcessor;
@@ -50,7 +60,8 @@ import org.apache.nifi.security.util.crypto.HashService;
 @InputRequirement(InputRequirement.Requirement.INPUT_REQUIRED)
 @CapabilityDescription("Calculates a cryptographic hash value for the flowfile content using the given algorithm and writes it to an output attribute. Please refer to https://csrc.nist.gov/Projects/Hash-Functions/NIST-Policy-on-Hash-Functions for help to decide which algorithm to use.")
 @WritesAttribute(attribute = "content_<algorithm>", description = "This processor adds an attribute whose value is the result of "
-        + "hashing the flowfile content. The name of this attribute is specified by the value of the algorithm, e.g. 'content_SHA-256'.")
+        + "hashing the flowfile content. The name of this attribute is specified by the value of the algorithm, e.g. 'content_SHA-256'. "
+        + "An attribute is added for each of the additional hash algorithms as well.")
 public class CryptographicHashContent extends AbstractProcessor {
 
     static final PropertyDescriptor FAIL_WHEN_EMPTY = new PropertyDescriptor.Builder()
@@ -75,6 +86,28 @@ public class CryptographicHashContent extends AbstractProcessor {
             .addValidator(StandardValidators.NON_EMPTY_VALIDATOR)
             .build();
 
+    private static final Validator HASH_ALGORITHM_LIST_VALIDATOR = (subject, input, context) -> {
+        for (final String algorithmName : input.split(",")) {
+            try {
+                HashAlgorithm.fromName(algorithmName.trim());
+            } catch (final IllegalArgumentException e) {
+                return new ValidationResult.Builder().subject(subject).input(input).valid(false)
+                        .explanation("'" + algorithmName.trim() + "' is not a supported hash algorithm").build();
+            }
+        }
+        return new ValidationResult.Builder().subject(subject).input(input).valid(true).build();
+    };
+
+    static final PropertyDescriptor ADDITIONAL_HASH_ALGORITHMS = new PropertyDescriptor.Builder()
+            .name("additional_hash_algorithms")
+            .displayName("Additional Hash Algorithms")
+            .description("A comma-separated list of hash algorithms to use in addition to the Hash Algorithm, each of which adds its own content_<algorithm> attribute. " +
+                    "The content is read only once for all of the algorithms, and each algorithm is computed on its own thread, so using several algorithms " +
+                    "takes about as long as using the slowest of them alone.")
+            .required(false)
+            .addValidator(HASH_ALGORITHM_LIST_VALIDATOR)
+            .build();
+
     public static final Relationship REL_SUCCESS = new Relationship.Builder()
             .name("success")
             .description("Used for flowfiles that have a hash value added")
@@ -89,6 +122,8 @@ public class CryptographicHashContent extends AbstractProcessor {
 
     private static List<PropertyDescriptor> properties;
 
+    private volatile ExecutorService hashExecutor;
+
     @Override
     protected void init(final ProcessorInitializationContext context) {
         final Set<Relationship> _relationships = new HashSet<>();
@@ -99,6 +134,7 @@ public class CryptographicHashContent extends AbstractProcessor {
         final List<PropertyDescriptor> _properties = new ArrayList<>();
         _properties.add(FAIL_WHEN_EMPTY);
         _properties.add(HASH_ALGORITHM);
+        _properties.add(ADDITIONAL_HASH_ALGORITHMS);
         properties = Collections.unmodifiableList(_properties);
     }
 
@@ -112,6 +148,43 @@ public class CryptographicHashContent extends AbstractProcessor {
         return properties;
     }
 
+    @OnScheduled
+    public void setupExecutor(final ProcessContext context) {
+        final int algorithmCount = getAlgorithms(context).size();
+        if (algorithmCount > 1) {
+            hashExecutor = Executors.newFixedThreadPool(algorithmCount, new ThreadFactory() {
+                private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+
+                @Override
+                public Thread newThread(final Runnable r) {
+                    final Thread t = defaultFactory.newThread(r);
+                    t.setName("CryptographicHashContent " + getIdentifier() + " Hash Task");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+    }
+
+    @OnStopped
+    public void shutdownExecutor() {
+        if (hashExecutor != null) {
+            hashExecutor.shutdownNow();
+            hashExecutor = null;
+        }
+    }
+
+    private Set<HashAlgorithm> getAlgorithms(final ProcessContext context) {
+        final Set<HashAlgorithm> algorithms = new LinkedHashSet<>();
+        algorithms.add(HashAlgorithm.fromName(context.getProperty(HASH_ALGORITHM).getValue()));
+        if (context.getProperty(ADDITIONAL_HASH_ALGORITHMS).isSet()) {
+            for (final String algorithmName : context.getProperty(ADDITIONAL_HASH_ALGORITHMS).getValue().split(",")) {
+                algorithms.add(HashAlgorithm.fromName(algorithmName.trim()));
+            }
+        }
+        return algorithms;
+    }
+
     @Override
     public void onTrigger(final ProcessContext context, final ProcessSession session) {
         FlowFile flowFile = session.get();
@@ -135,6 +208,12 @@ public class CryptographicHashContent extends AbstractProcessor {
             }
         }
 
+        final Set<HashAlgorithm> algorithms = getAlgorithms(context);
+        if (algorithms.size() > 1) {
+            hashWithAlgorithms(session, flowFile, algorithms);
+            return;
+        }
+
         // Generate a hash with the configured algorithm for the content
         // and create a new attribute with the configured name
         logger.debug("Generating {} hash of content", new Object[]{algorithmName});
@@ -160,4 +239,26 @@ public class CryptographicHashContent extends AbstractProcessor {
             session.transfer(flowFile, REL_FAILURE);
         }
     }
+
+    private void hashWithAlgorithms(final ProcessSession session, FlowFile flowFile, final Set<HashAlgorithm> algorithms) {
+        final ComponentLog logger = getLogger();
+        logger.debug("Generating {} hashes of content", new Object[]{algorithms});
+        final Map<String, String> attributes = new HashMap<>();
+
+        try {
+            // Read the flowfile content once for all of the algorithms
+            session.read(flowFile, in -> HashService.hashValuesStreaming(algorithms, in, hashExecutor)
+                    .forEach((algorithm, hashValue) -> attributes.put("content_" + algorithm.getName(), hashValue)));
+
+            flowFile = session.putAllAttributes(flowFile, attributes);
+            logger.info("Successfully added attributes {} to {}; routing to success", new Object[]{attributes, flowFile});
+
+            // Update provenance and route to success
+            session.getProvenanceReporter().modifyAttributes(flowFile);
+            session.transfer(flowFile, REL_SUCCESS);
+        } catch (ProcessException e) {
+            logger.error("Failed to process {} due to {}; routing to failure", new Object[]{flowFile, e});
+            session.transfer(flowFile, REL_FAILURE);
+        }
+    }
 }
@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.nifi.annotation.behavior.EventDriven;
@@ -137,13 +138,12 @@ public class IdentifyMimeType extends AbstractProcessor {
     private Set<Relationship> relationships;
     private List<PropertyDescriptor> properties;
 
-    private final TikaConfig config;
     private Detector detector;
     private MimeTypes mimeTypes;
+    private volatile int prefixLength;
 
-    public IdentifyMimeType() {
-        this.config = TikaConfig.getDefaultConfig();
-    }
+    // Shared by all instances, so that each thread holds a single buffer, as large as the largest prefix that it has read
+    private static final ThreadLocal<byte[]> PREFIX_BUFFER = new ThreadLocal<>();
 
     @Override
     protected void init(final ProcessorInitializationContext context) {
@@ -165,6 +165,7 @@ public class IdentifyMimeType extends AbstractProcessor {
         String configFile = context.getProperty(MIME_CONFIG_FILE).evaluateAttributeExpressions().getValue();
 
         if (configBody == null && configFile == null){
+            final TikaConfig config = DefaultConfigHolder.CONFIG;
             this.detector = config.getDetector();
             this.mimeTypes = config.getMimeRepository();
         } else if (configBody != null) {
@@ -186,6 +187,9 @@ public class IdentifyMimeType extends AbstractProcessor {
                 throw new ProcessException("Failed to load config file", e);
             }
         }
+
+        // The MIME types are detected by examining at most this many bytes at the start of the content
+        this.prefixLength = mimeTypes.getMinLength();
     }
 
 
@@ -207,27 +211,46 @@ public class IdentifyMimeType extends AbstractProcessor {
         }
 
         final ComponentLog logger = getLogger();
-        final AtomicReference<String> mimeTypeRef = new AtomicReference<>(null);
+        final AtomicReference<MediaType> mediaTypeRef = new AtomicReference<>(null);
         final String filename = flowFile.getAttribute(CoreAttributes.FILENAME.key());
+        final boolean useFilename = context.getProperty(USE_FILENAME_IN_DETECTION).asBoolean();
 
+        // Only the prefix of the content that the MIME types can be detected from is read, into a buffer that is reused for every FlowFile,
+        // rather than buffering the content stream for each FlowFile
+        final int prefixLength = this.prefixLength;
+        final AtomicInteger prefixLengthRead = new AtomicInteger(0);
         session.read(flowFile, new InputStreamCallback() {
             @Override
-            public void process(final InputStream stream) throws IOException {
-                try (final InputStream in = new BufferedInputStream(stream);
-                     final TikaInputStream tikaStream = TikaInputStream.get(in)) {
-                    Metadata metadata = new Metadata();
-
-                    if (filename != null && context.getProperty(USE_FILENAME_IN_DETECTION).asBoolean()) {
-                        metadata.add(TikaMetadataKeys.RESOURCE_NAME_KEY, filename);
-                    }
-                    // Get mime type
-                    MediaType mediatype = detector.detect(tikaStream, metadata);
-                    mimeTypeRef.set(mediatype.toString());
+            public void process(final InputStream in) throws IOException {
+                final byte[] prefix = getPrefixBuffer(prefixLength);
+                int length = 0;
+                int read;
+                while (length < prefixLength && (read = in.read(prefix, length, prefixLength - length)) > -1) {
+                    length += read;
                 }
+                prefixLengthRead.set(length);
+
+                // Get mime type
+                MediaType mediatype = detector.detect(new ByteArrayInputStream(prefix, 0, length), createMetadata(filename, useFilename));
+                mediaTypeRef.set(mediatype);
             }
         });
 
-        String mimeType = mimeTypeRef.get();
+        // A detector other than the MIME types may need more of the content, so examine all of it if the prefix was inconclusive
+        if (MediaType.OCTET_STREAM.equals(mediaTypeRef.get()) && prefixLengthRead.get() == prefixLength) {
+            session.read(flowFile, new InputStreamCallback() {
+                @Override
+                public void process(final InputStream stream) throws IOException {
+                    try (final InputStream in = new BufferedInputStream(stream);
+                         final TikaInputStream tikaStream = TikaInputStream.get(in)) {
+                        MediaType mediatype = detector.detect(tikaStream, createMetadata(filename, useFilename));
+                        mediaTypeRef.set(mediatype);
+                    }
+                }
+            });
+        }
+
+        String mimeType = mediaTypeRef.get() == null ? null : mediaTypeRef.get().toString();
         String extension = "";
         try {
             MimeType mimetype;
@@ -256,6 +279,23 @@ public class IdentifyMimeType extends AbstractProcessor {
         session.transfer(flowFile, REL_SUCCESS);
     }
 
+    private static byte[] getPrefixBuffer(final int prefixLength) {
+        byte[] buffer = PREFIX_BUFFER.get();
+        if (buffer == null || buffer.length < prefixLength) {
+            buffer = new byte[prefixLength];
+            PREFIX_BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+
+    private Metadata createMetadata(final String filename, final boolean useFilename) {
+        final Metadata metadata = new Metadata();
+        if (filename != null && useFilename) {
+            metadata.add(TikaMetadataKeys.RESOURCE_NAME_KEY, filename);
+        }
+        return metadata;
+    }
+
     @Override
     protected Collection<ValidationResult> customValidate(ValidationContext validationContext) {
         Set<ValidationResult> results = new HashSet<>();
@@ -272,4 +312,10 @@ public class IdentifyMimeType extends AbstractProcessor {
         return results;
     }
 
+    /**
+     * Holds the default Tika configuration, which is expensive to load and is not modified, so that it is loaded only once and shared by all instances
+     */
+    private static class DefaultConfigHolder {
+        private static final TikaConfig CONFIG = TikaConfig.getDefaultConfig();
+    }
 }
@@ -48,6 +48,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -57,8 +58,11 @@ import javax.annotation.Nullable;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLSession;
 import okhttp3.Cache;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.ConnectionPool;
 import okhttp3.Credentials;
+import okhttp3.Dispatcher;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import okhttp3.MultipartBody.Builder;
@@ -96,6 +100,7 @@ import org.apache.nifi.processor.ProcessorInitializationContext;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.processor.util.StandardValidators;
+import org.apache.nifi.processors.standard.util.PendingResponse;
 import org.apache.nifi.processors.standard.util.ProxyAuthenticator;
 import org.apache.nifi.processors.standard.util.SoftLimitBoundedByteArrayOutputStream;
 import org.apache.nifi.proxy.ProxyConfiguration;
@@ -151,6 +156,11 @@ public class InvokeHTTP extends AbstractProcessor {
 
     public static final String FORM_BASE = "post:form";
 
+    // counters adjusted when more than one request is in flight
+    public static final String COUNTER_PIPELINED_REQUESTS = "Pipelined Requests Sent";
+    public static final String COUNTER_SEQUENTIAL_REQUESTS = "Requests Sent Sequentially While Pipelining";
+    public static final String COUNTER_COMPLETED_REQUESTS = "Pipelined Requests Completed";
+
     // Set of flowfile attributes which we generally always ignore during
     // processing, including when converting http headers, copying attributes, etc.
     // This set includes our strings defined above as well as some standard flowfile
@@ -221,6 +231,19 @@ public class InvokeHTTP extends AbstractProcessor {
             .addValidator(StandardValidators.INTEGER_VALIDATOR)
             .build();
 
+    public static final PropertyDescriptor PROP_MAX_IN_FLIGHT_REQUESTS = new PropertyDescriptor.Builder()
+            .name("max-in-flight-requests")
+            .displayName("Max In-Flight Requests")
+            .description("The maximum number of requests that each concurrent task may have in flight at once. When greater than 1, each task takes up to this "
+                    + "many FlowFiles and sends all of their requests before processing the responses in order, so that the latency of the remote service is "
+                    + "incurred once per batch rather than once per FlowFile. Requests that send FlowFile content are still sent one at a time. Max Idle "
+                    + "Connections should be at least this value multiplied by the number of concurrent tasks so that connections are reused between batches. "
+                    + "Over HTTPS, servers that support HTTP/2 will multiplex the requests over a single connection.")
+            .required(true)
+            .defaultValue("1")
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .build();
+
     public static final PropertyDescriptor PROP_DATE_HEADER = new PropertyDescriptor.Builder()
             .name("Include Date Header")
             .description("Include an RFC-2616 Date header in the request.")
@@ -486,6 +509,7 @@ public class InvokeHTTP extends AbstractProcessor {
             PROP_READ_TIMEOUT,
             PROP_IDLE_TIMEOUT,
             PROP_MAX_IDLE_CONNECTIONS,
+            PROP_MAX_IN_FLIGHT_REQUESTS,
             PROP_DATE_HEADER,
             PROP_FOLLOW_REDIRECTS,
             PROP_ATTRIBUTES_TO_SEND,
@@ -755,6 +779,16 @@ public class InvokeHTTP extends AbstractProcessor {
                 )
         );
 
+        // Asynchronous requests are limited by the dispatcher, which by default allows only 5 requests per host
+        final int maxInFlightRequests = context.getProperty(PROP_MAX_IN_FLIGHT_REQUESTS).asInteger();
+        if (maxInFlightRequests > 1) {
+            final Dispatcher dispatcher = new Dispatcher();
+            final int maxRequests = Math.max(dispatcher.getMaxRequests(), maxInFlightRequests * context.getMaxConcurrentTasks());
+            dispatcher.setMaxRequests(maxRequests);
+            dispatcher.setMaxRequestsPerHost(maxRequests);
+            okHttpClientBuilder.dispatcher(dispatcher);
+        }
+
         // Set whether to follow redirects
         okHttpClientBuilder.followRedirects(context.getProperty(PROP_FOLLOW_REDIRECTS).asBoolean());
 
@@ -797,7 +831,19 @@ public class InvokeHTTP extends AbstractProcessor {
     public void onTrigger(ProcessContext context, ProcessSession session) throws ProcessException {
         OkHttpClient okHttpClient = okHttpClientAtomicReference.get();
 
-        FlowFile requestFlowFile = session.get();
+        FlowFile requestFlowFile;
+        final int maxInFlightRequests = context.getProperty(PROP_MAX_IN_FLIGHT_REQUESTS).asInteger();
+        if (maxInFlightRequests > 1) {
+            final List<FlowFile> requestFlowFiles = session.get(maxInFlightRequests);
+            if (requestFlowFiles.size() > 1) {
+                logClientMetrics(context, okHttpClient);
+                invokePipelined(context, session, okHttpClient, requestFlowFiles);
+                return;
+            }
+            requestFlowFile = requestFlowFiles.isEmpty() ? null : requestFlowFiles.get(0);
+        } else {
+            requestFlowFile = session.get();
+        }
 
         // Checking to see if the property to put the body of the response in an attribute was set
         boolean putToAttribute = context.getProperty(PROP_PUT_OUTPUT_IN_ATTRIBUTE).isSet();
@@ -814,40 +860,102 @@ public class InvokeHTTP extends AbstractProcessor {
             }
         }
 
-        // Setting some initial variables
-        final int maxAttributeSize = context.getProperty(PROP_PUT_ATTRIBUTE_MAX_LENGTH).asInteger();
+        logClientMetrics(context, okHttpClient);
+
+        final URL url;
+        final Request httpRequest;
+        try {
+            // read the url property from the context
+            final String urlstr = trimToEmpty(context.getProperty(PROP_URL).evaluateAttributeExpressions(requestFlowFile).getValue());
+            url = new URL(urlstr);
+
+            httpRequest = configureRequest(context, session, requestFlowFile, url);
+        } catch (final Exception e) {
+            handleException(context, session, requestFlowFile, null, e);
+            return;
+        }
+
+        // log request
+        logRequest(getLogger(), httpRequest);
+
+        invoke(context, session, requestFlowFile, url, httpRequest, System.nanoTime(), () -> okHttpClient.newCall(httpRequest).execute());
+    }
+
+    /**
+     * Sends the requests for all of the given FlowFiles before processing any of the responses, so that the latency of the remote service
+     * is incurred once for the batch rather than once per FlowFile. The responses are processed in order, on the calling thread, because
+     * the session may be used only by that thread. For the same reason, a request that sends the content of its FlowFile is not sent until
+     * its response is to be processed.
+     */
+    private void invokePipelined(final ProcessContext context, final ProcessSession session, final OkHttpClient okHttpClient, final List<FlowFile> requestFlowFiles) {
         final ComponentLog logger = getLogger();
+        final boolean sendBody = context.getProperty(PROP_SEND_BODY).asBoolean();
 
-        // log ETag cache metrics
-        final boolean eTagEnabled = context.getProperty(PROP_USE_ETAG).asBoolean();
-        if (eTagEnabled && logger.isDebugEnabled()) {
-            final Cache cache = okHttpClient.cache();
-            logger.debug("OkHttp ETag cache metrics :: Request Count: {} | Network Count: {} | Hit Count: {}",
-                    new Object[]{cache.requestCount(), cache.networkCount(), cache.hitCount()});
+        final List<PendingRequest> pendingRequests = new ArrayList<>(requestFlowFiles.size());
+        try {
+            for (final FlowFile requestFlowFile : requestFlowFiles) {
+                final URL url;
+                final Request httpRequest;
+                try {
+                    final String urlstr = trimToEmpty(context.getProperty(PROP_URL).evaluateAttributeExpressions(requestFlowFile).getValue());
+                    url = new URL(urlstr);
+
+                    httpRequest = configureRequest(context, session, requestFlowFile, url);
+                } catch (final Exception e) {
+                    handleException(context, session, requestFlowFile, null, e);
+                    continue;
+                }
+
+                logRequest(logger, httpRequest);
+
+                // The request body, if any, reads the FlowFile content from the session, so it must be written by this thread
+                final boolean async = httpRequest.body() == null || !sendBody;
+                pendingRequests.add(new PendingRequest(requestFlowFile, url, okHttpClient.newCall(httpRequest), async));
+            }
+
+            final long asyncRequestCount = pendingRequests.stream().filter(PendingRequest::isAsync).count();
+            session.adjustCounter(COUNTER_PIPELINED_REQUESTS, asyncRequestCount, false);
+            session.adjustCounter(COUNTER_SEQUENTIAL_REQUESTS, pendingRequests.size() - asyncRequestCount, false);
+
+            int completedRequestCount = 0;
+            for (final PendingRequest pendingRequest : pendingRequests) {
+                final long startNanos = pendingRequest.isAsync() ? pendingRequest.getStartNanos() : System.nanoTime();
+                if (invoke(context, session, pendingRequest.getRequestFlowFile(), pendingRequest.getUrl(), pendingRequest.getRequest(), startNanos, pendingRequest::getResponse)) {
+                    completedRequestCount++;
+                }
+            }
+            session.adjustCounter(COUNTER_COMPLETED_REQUESTS, completedRequestCount, false);
+        } finally {
+            for (final PendingRequest pendingRequest : pendingRequests) {
+                pendingRequest.cancel();
+            }
         }
+    }
+
+    /**
+     * @return <code>true</code> if a response was received and the FlowFiles were routed according to its status code, <code>false</code> if the
+     * request failed and the FlowFiles were handled as for any other exception
+     */
+    private boolean invoke(final ProcessContext context, final ProcessSession session, FlowFile requestFlowFile, final URL url, final Request httpRequest,
+                           final long startNanos, final Callable<Response> responseCall) {
+        // Checking to see if the property to put the body of the response in an attribute was set
+        final boolean putToAttribute = context.getProperty(PROP_PUT_OUTPUT_IN_ATTRIBUTE).isSet();
+
+        // Setting some initial variables
+        final int maxAttributeSize = context.getProperty(PROP_PUT_ATTRIBUTE_MAX_LENGTH).asInteger();
+        final ComponentLog logger = getLogger();
 
         // Every request/response cycle has a unique transaction id which will be stored as a flowfile attribute.
         final UUID txId = UUID.randomUUID();
 
         FlowFile responseFlowFile = null;
         try {
-            // read the url property from the context
-            final String urlstr = trimToEmpty(context.getProperty(PROP_URL).evaluateAttributeExpressions(requestFlowFile).getValue());
-            final URL url = new URL(urlstr);
-
-            Request httpRequest = configureRequest(context, session, requestFlowFile, url);
-
-            // log request
-            logRequest(logger, httpRequest);
-
             // emit send provenance event if successfully sent to the server
             if (httpRequest.body() != null) {
                 session.getProvenanceReporter().send(requestFlowFile, url.toExternalForm(), true);
             }
 
-            final long startNanos = System.nanoTime();
-
-            try (Response responseHttp = okHttpClient.newCall(httpRequest).execute()) {
+            try (Response responseHttp = responseCall.call()) {
                 // output the raw response headers (DEBUG level only)
                 logResponse(logger, url, responseHttp);
 
@@ -973,32 +1081,59 @@ public class InvokeHTTP extends AbstractProcessor {
                 }
 
                 route(requestFlowFile, responseFlowFile, session, context, statusCode);
-
+                return true;
             }
         } catch (final Exception e) {
-            // penalize or yield
-            if (requestFlowFile != null) {
-                logger.error("Routing to {} due to exception: {}", new Object[]{REL_FAILURE.getName(), e}, e);
-                requestFlowFile = session.penalize(requestFlowFile);
-                requestFlowFile = session.putAttribute(requestFlowFile, EXCEPTION_CLASS, e.getClass().getName());
-                requestFlowFile = session.putAttribute(requestFlowFile, EXCEPTION_MESSAGE, e.getMessage());
-                // transfer original to failure
-                session.transfer(requestFlowFile, REL_FAILURE);
-            } else {
-                logger.error("Yielding processor due to exception encountered as a source processor: {}", e);
-                context.yield();
-            }
+            handleException(context, session, requestFlowFile, responseFlowFile, e);
+            return false;
+        }
+    }
 
+    private void handleException(final ProcessContext context, final ProcessSession session, FlowFile requestFlowFile, final FlowFile responseFlowFile, final Exception e) {
+        final ComponentLog logger = getLogger();
 
-            // cleanup response flowfile, if applicable
-            try {
-                if (responseFlowFile != null) {
-                    session.remove(responseFlowFile);
-                }
-            } catch (final Exception e1) {
-                logger.error("Could not cleanup response flowfile due to exception: {}", new Object[]{e1}, e1);
+        // penalize or yield
+        if (requestFlowFile != null) {
+            logger.error("Routing to {} due to exception: {}", new Object[]{REL_FAILURE.getName(), e}, e);
+            requestFlowFile = session.penalize(requestFlowFile);
+            requestFlowFile = session.putAttribute(requestFlowFile, EXCEPTION_CLASS, e.getClass().getName());
+            requestFlowFile = session.putAttribute(requestFlowFile, EXCEPTION_MESSAGE, e.getMessage());
+            // transfer original to failure
+            session.transfer(requestFlowFile, REL_FAILURE);
+        } else {
+            logger.error("Yielding processor due to exception encountered as a source processor: {}", e);
+            context.yield();
+        }
+
+
+        // cleanup response flowfile, if applicable
+        try {
+            if (responseFlowFile != null) {
+                session.remove(responseFlowFile);
             }
+        } catch (final Exception e1) {
+            logger.error("Could not cleanup response flowfile due to exception: {}", new Object[]{e1}, e1);
+        }
+    }
+
+    private void logClientMetrics(final ProcessContext context, final OkHttpClient okHttpClient) {
+        final ComponentLog logger = getLogger();
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+
+        // log ETag cache metrics
+        final boolean eTagEnabled = context.getProperty(PROP_USE_ETAG).asBoolean();
+        if (eTagEnabled) {
+            final Cache cache = okHttpClient.cache();
+            logger.debug("OkHttp ETag cache metrics :: Request Count: {} | Network Count: {} | Hit Count: {}",
+                    new Object[]{cache.requestCount(), cache.networkCount(), cache.hitCount()});
         }
+
+        final ConnectionPool connectionPool = okHttpClient.connectionPool();
+        final Dispatcher dispatcher = okHttpClient.dispatcher();
+        logger.debug("OkHttp connection metrics :: Connection Count: {} | Idle Connection Count: {} | In-Flight Async Requests: {} | Queued Async Requests: {}",
+                new Object[]{connectionPool.connectionCount(), connectionPool.idleConnectionCount(), dispatcher.runningCallsCount(), dispatcher.queuedCallsCount()});
     }
 
 
@@ -1340,4 +1475,69 @@ public class InvokeHTTP extends AbstractProcessor {
             return delegate.verify(hostname, session);
         }
     }
+
+    /**
+     * A request that has been created for a FlowFile but whose response has not yet been processed. If the request is asynchronous,
+     * it is sent when this object is created and its response is completed by an OkHttp dispatcher thread; otherwise it is sent when
+     * the response is requested.
+     */
+    private static class PendingRequest {
+
+        private final FlowFile requestFlowFile;
+        private final URL url;
+        private final Call call;
+        private final PendingResponse<Response> pendingResponse;
+        private final long startNanos;
+
+        private PendingRequest(final FlowFile requestFlowFile, final URL url, final Call call, final boolean async) {
+            this.requestFlowFile = requestFlowFile;
+            this.url = url;
+            this.call = call;
+            this.startNanos = System.nanoTime();
+
+            if (async) {
+                pendingResponse = PendingResponse.sendAsync(responseFuture -> call.enqueue(new Callback() {
+                    @Override
+                    public void onFailure(final Call call, final IOException e) {
+                        responseFuture.completeExceptionally(e);
+                    }
+
+                    @Override
+                    public void onResponse(final Call call, final Response response) {
+                        responseFuture.complete(response);
+                    }
+                }), call::cancel);
+            } else {
+                pendingResponse = PendingResponse.sendWhenRequested(call::execute, call::cancel);
+            }
+        }
+
+        private FlowFile getRequestFlowFile() {
+            return requestFlowFile;
+        }
+
+        private URL getUrl() {
+            return url;
+        }
+
+        private Request getRequest() {
+            return call.request();
+        }
+
+        private boolean isAsync() {
+            return pendingResponse.isAsync();
+        }
+
+        private long getStartNanos() {
+            return startNanos;
+        }
+
+        private Response getResponse() throws Exception {
+            return pendingResponse.getResponse();
+        }
+
+        private void cancel() {
+            pendingResponse.cancel();
+        }
+    }
 }
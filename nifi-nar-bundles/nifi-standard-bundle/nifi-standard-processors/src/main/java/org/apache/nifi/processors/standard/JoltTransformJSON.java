@@ -16,19 +16,34 @@
  */
 package org.apache.nifi.processors.standard;
 
+import java.io.EOFException;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import org.apache.nifi.annotation.behavior.EventDriven;
@@ -39,6 +54,7 @@ import org.apache.nifi.annotation.behavior.WritesAttribute;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.Tags;
 import org.apache.nifi.annotation.lifecycle.OnScheduled;
+import org.apache.nifi.annotation.lifecycle.OnStopped;
 import org.apache.nifi.components.AllowableValue;
 import org.apache.nifi.components.PropertyDescriptor;
 import org.apache.nifi.components.ValidationContext;
@@ -140,6 +156,30 @@ public class JoltTransformJSON extends AbstractProcessor {
             .defaultValue("false")
             .build();
 
+    public static final PropertyDescriptor TRANSFORM_EACH_ELEMENT = new PropertyDescriptor.Builder()
+            .name("jolt-transform-each-element")
+            .displayName("Transform Each Array Element")
+            .description("If true and the content of a FlowFile is a JSON array, the Jolt Specification is applied to each element of the array independently, "
+                + "and the output is an array of the transformed elements, so the specification must be written for a single element. The content is streamed, "
+                + "so only the elements that are being transformed are held in memory regardless of the size of the FlowFile. "
+                + "Content that is not an array is transformed as a whole.")
+            .required(true)
+            .allowableValues("true", "false")
+            .defaultValue("false")
+            .build();
+
+    public static final PropertyDescriptor TRANSFORM_THREADS = new PropertyDescriptor.Builder()
+            .name("jolt-transform-threads")
+            .displayName("Transform Threads")
+            .description("The number of threads to use to transform the elements of an array concurrently. The elements are written in their original order. "
+                + "The threads are shared by all concurrent tasks of this processor, and each task may hold up to twice this many elements in memory. "
+                + "A Custom Transformation must be thread-safe in order to use more than one thread.")
+            .required(true)
+            .addValidator(StandardValidators.POSITIVE_INTEGER_VALIDATOR)
+            .defaultValue("1")
+            .dependsOn(TRANSFORM_EACH_ELEMENT, "true")
+            .build();
+
     public static final Relationship REL_SUCCESS = new Relationship.Builder()
             .name("success")
             .description("The FlowFile with transformed content will be routed to this relationship")
@@ -154,6 +194,12 @@ public class JoltTransformJSON extends AbstractProcessor {
     private volatile ClassLoader customClassLoader;
     private final static String DEFAULT_CHARSET = "UTF-8";
 
+    // Configured in the same way as the ObjectMapper of Jolt's JsonUtils, so that streamed elements are read and written as they would be by JsonUtils
+    private final static ObjectMapper OBJECT_MAPPER = new ObjectMapper().configure(JsonParser.Feature.ALLOW_COMMENTS, true);
+
+    private volatile ExecutorService transformExecutor;
+    private volatile int transformThreads;
+
     /**
      * It is a cache for transform objects. It keep values indexed by jolt specification string.
      * For some cases the key could be empty. It means that it represents default transform (e.g. for custom transform
@@ -169,6 +215,8 @@ public class JoltTransformJSON extends AbstractProcessor {
         _properties.add(JOLT_SPEC);
         _properties.add(TRANSFORM_CACHE_SIZE);
         _properties.add(PRETTY_PRINT);
+        _properties.add(TRANSFORM_EACH_ELEMENT);
+        _properties.add(TRANSFORM_THREADS);
         properties = Collections.unmodifiableList(_properties);
 
         final Set<Relationship> _relationships = new HashSet<>();
@@ -262,6 +310,11 @@ public class JoltTransformJSON extends AbstractProcessor {
         final ComponentLog logger = getLogger();
         final StopWatch stopWatch = new StopWatch(true);
 
+        if (context.getProperty(TRANSFORM_EACH_ELEMENT).asBoolean() && isJsonArray(session, original)) {
+            transformElements(context, session, original, stopWatch);
+            return;
+        }
+
         final Object inputJson;
         try (final InputStream in = session.read(original)) {
             inputJson = JsonUtils.jsonToObject(in);
@@ -305,6 +358,117 @@ public class JoltTransformJSON extends AbstractProcessor {
         logger.info("Transformed {}", new Object[]{original});
     }
 
+    private boolean isJsonArray(final ProcessSession session, final FlowFile flowFile) {
+        try (final InputStream in = session.read(flowFile);
+             final JsonParser parser = OBJECT_MAPPER.getFactory().createParser(in)) {
+            return parser.nextToken() == JsonToken.START_ARRAY;
+        } catch (final IOException e) {
+            // Content that cannot be parsed is reported when it is transformed as a whole
+            return false;
+        }
+    }
+
+    /**
+     * Transforms each element of the JSON array in the content of the given FlowFile independently, streaming the elements from the content and
+     * writing each transformed element as soon as it, and all of the elements before it, have been transformed.
+     */
+    private void transformElements(final ProcessContext context, final ProcessSession session, final FlowFile original, final StopWatch stopWatch) {
+        final ComponentLog logger = getLogger();
+        final boolean prettyPrint = context.getProperty(PRETTY_PRINT).asBoolean();
+        final ExecutorService executor = transformExecutor;
+        final int maxPendingElements = transformThreads * 2;
+
+        FlowFile transformed;
+        try {
+            final JoltTransform transform = getTransform(context, original);
+            final ClassLoader transformClassLoader = customClassLoader;
+
+            transformed = session.write(original, (in, out) -> {
+                try (final JsonParser parser = OBJECT_MAPPER.getFactory().createParser(in);
+                     final JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(out)) {
+                    if (prettyPrint) {
+                        generator.useDefaultPrettyPrinter();
+                    }
+
+                    parser.nextToken();
+                    generator.writeStartArray();
+
+                    final Deque<Future<Object>> pendingElements = new ArrayDeque<>();
+                    try {
+                        JsonToken token;
+                        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                            if (token == null) {
+                                throw new EOFException("Unexpected end of JSON content");
+                            }
+
+                            final Object element = OBJECT_MAPPER.readValue(parser, Object.class);
+                            final Callable<Object> transformTask = () -> transformElement(transform, element, transformClassLoader);
+                            if (executor == null) {
+                                generator.writeObject(transformTask.call());
+                                continue;
+                            }
+
+                            pendingElements.add(executor.submit(transformTask));
+                            while (pendingElements.size() >= maxPendingElements) {
+                                generator.writeObject(getTransformedElement(pendingElements.poll()));
+                            }
+                        }
+
+                        while (!pendingElements.isEmpty()) {
+                            generator.writeObject(getTransformedElement(pendingElements.poll()));
+                        }
+                    } catch (final IOException | RuntimeException e) {
+                        throw e;
+                    } catch (final Exception e) {
+                        throw new ProcessException(e);
+                    } finally {
+                        for (final Future<Object> pendingElement : pendingElements) {
+                            pendingElement.cancel(true);
+                        }
+                    }
+
+                    generator.writeEndArray();
+                }
+            });
+        } catch (final Exception ex) {
+            logger.error("Unable to transform {} due to {}", new Object[] {original, ex.toString(), ex});
+            session.transfer(original, REL_FAILURE);
+            return;
+        }
+
+        final String transformType = context.getProperty(JOLT_TRANSFORM).getValue();
+        transformed = session.putAttribute(transformed, CoreAttributes.MIME_TYPE.key(), "application/json");
+        session.transfer(transformed, REL_SUCCESS);
+        session.getProvenanceReporter().modifyContent(transformed,"Modified With " + transformType ,stopWatch.getElapsed(TimeUnit.MILLISECONDS));
+        logger.info("Transformed {}", new Object[]{original});
+    }
+
+    private Object transformElement(final JoltTransform transform, final Object element, final ClassLoader transformClassLoader) {
+        final ClassLoader originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+        if (transformClassLoader != null) {
+            Thread.currentThread().setContextClassLoader(transformClassLoader);
+        }
+
+        try {
+            return TransformUtils.transform(transform, element);
+        } finally {
+            if (transformClassLoader != null && originalContextClassLoader != null) {
+                Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+            }
+        }
+    }
+
+    private Object getTransformedElement(final Future<Object> pendingElement) throws IOException {
+        try {
+            return pendingElement.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for element to be transformed");
+        } catch (final ExecutionException e) {
+            throw new ProcessException("Failed to transform element", e.getCause());
+        }
+    }
+
     private JoltTransform getTransform(final ProcessContext context, final FlowFile flowFile) throws Exception {
         final Optional<String> specString;
         if (context.getProperty(JOLT_SPEC).isSet()) {
@@ -332,6 +496,29 @@ public class JoltTransformJSON extends AbstractProcessor {
         } catch (final Exception ex) {
             getLogger().error("Unable to setup processor", ex);
         }
+
+        transformThreads = context.getProperty(TRANSFORM_THREADS).asInteger();
+        if (context.getProperty(TRANSFORM_EACH_ELEMENT).asBoolean() && transformThreads > 1) {
+            transformExecutor = Executors.newFixedThreadPool(transformThreads, new ThreadFactory() {
+                private final ThreadFactory defaultFactory = Executors.defaultThreadFactory();
+
+                @Override
+                public Thread newThread(final Runnable r) {
+                    final Thread t = defaultFactory.newThread(r);
+                    t.setName("JoltTransformJSON " + getIdentifier() + " Transform Task");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+        }
+    }
+
+    @OnStopped
+    public void shutdownExecutor() {
+        if (transformExecutor != null) {
+            transformExecutor.shutdownNow();
+            transformExecutor = null;
+        }
     }
 
     private JoltTransform createTransform(final ProcessContext context, final String specString) throws Exception {
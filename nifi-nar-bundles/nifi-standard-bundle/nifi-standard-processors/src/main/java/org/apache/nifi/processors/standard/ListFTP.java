@@ -100,6 +100,7 @@ public class ListFTP extends ListFileTransfer {
         properties.add(TARGET_SYSTEM_TIMESTAMP_PRECISION);
         properties.add(ListedEntityTracker.TRACKING_STATE_CACHE);
         properties.add(ListedEntityTracker.TRACKING_TIME_WINDOW);
+        properties.add(ListedEntityTracker.TRACKING_STATE_PARTITIONS);
         properties.add(ListedEntityTracker.INITIAL_LISTING_TARGET);
         return properties;
     }
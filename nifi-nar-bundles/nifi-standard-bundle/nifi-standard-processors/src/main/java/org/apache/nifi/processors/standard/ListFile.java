@@ -50,11 +50,15 @@ import org.apache.nifi.util.Tuple;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.FileStore;
+import java.nio.file.FileSystemLoopException;
 import java.nio.file.FileVisitOption;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.attribute.BasicFileAttributeView;
@@ -78,9 +82,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
 import java.util.function.Supplier;
@@ -265,16 +272,30 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         .defaultValue("3 mins")
         .build();
 
+    public static final PropertyDescriptor MAX_LISTING_THREADS = new Builder()
+        .name("max-listing-threads")
+        .displayName("Max Listing Threads")
+        .description("The maximum number of threads to use for listing directories. If greater than 1 and 'Recurse Subdirectories' is true, the directory tree is split up by " +
+            "subdirectory and each subdirectory is listed concurrently. This can significantly reduce the amount of time needed to list very large directory trees, especially " +
+            "on network-mounted file systems where the time to list a directory is dominated by latency rather than disk throughput. When more than 1 thread is used, " +
+            "'Track Performance' does not report which directory is actively being listed.")
+        .required(true)
+        .addValidator(POSITIVE_INTEGER_VALIDATOR)
+        .defaultValue("1")
+        .build();
+
 
     private List<PropertyDescriptor> properties;
     private Set<Relationship> relationships;
 
     private volatile ScheduledExecutorService monitoringThreadPool;
     private volatile Future<?> monitoringFuture;
+    private volatile ForkJoinPool listingPool;
 
     private volatile boolean includeFileAttributes;
     private volatile PerformanceTracker performanceTracker;
     private volatile long performanceLoggingTimestamp = System.currentTimeMillis();
+    private final Object performanceLoggingLock = new Object();
     private final AtomicReference<BiPredicate<Path, BasicFileAttributes>> fileFilterRef = new AtomicReference<>();
 
     public static final String FILE_CREATION_TIME_ATTRIBUTE = "file.creationTime";
@@ -305,12 +326,14 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         properties.add(TARGET_SYSTEM_TIMESTAMP_PRECISION);
         properties.add(ListedEntityTracker.TRACKING_STATE_CACHE);
         properties.add(ListedEntityTracker.TRACKING_TIME_WINDOW);
+        properties.add(ListedEntityTracker.TRACKING_STATE_PARTITIONS);
         properties.add(ListedEntityTracker.INITIAL_LISTING_TARGET);
         properties.add(ListedEntityTracker.NODE_IDENTIFIER);
         properties.add(TRACK_PERFORMANCE);
         properties.add(MAX_TRACKED_FILES);
         properties.add(MAX_DISK_OPERATION_TIME);
         properties.add(MAX_LISTING_TIME);
+        properties.add(MAX_LISTING_THREADS);
         this.properties = Collections.unmodifiableList(properties);
 
         final Set<Relationship> relationships = new HashSet<>();
@@ -355,6 +378,11 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         final long millisToKeepStats = TimeUnit.MINUTES.toMillis(15);
         final MonitorActiveTasks monitorTask = new MonitorActiveTasks(performanceTracker, getLogger(), maxDiskOperationMillis, maxListingMillis, millisToKeepStats);
         monitoringFuture = monitoringThreadPool.scheduleAtFixedRate(monitorTask, 15, 15, TimeUnit.SECONDS);
+
+        final int maxListingThreads = context.getProperty(MAX_LISTING_THREADS).asInteger();
+        if (maxListingThreads > 1 && context.getProperty(RECURSE).asBoolean()) {
+            listingPool = new ForkJoinPool(maxListingThreads);
+        }
     }
 
     @OnStopped
@@ -363,6 +391,11 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
             monitoringFuture.cancel(true);
         }
 
+        if (listingPool != null) {
+            listingPool.shutdownNow();
+            listingPool = null;
+        }
+
         final boolean trackPerformance = context.getProperty(TRACK_PERFORMANCE).asBoolean();
         if (trackPerformance) {
             logPerformance();
@@ -510,6 +543,11 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         final BiPredicate<Path, BasicFileAttributes> fileFilter = fileFilterRef.get();
         int maxDepth = recurse ? Integer.MAX_VALUE : 1;
 
+        final ForkJoinPool pool = listingPool;
+        if (recurse && pool != null) {
+            return performParallelListing(pool, basePath, minTimestamp, fileFilter);
+        }
+
         final BiPredicate<Path, BasicFileAttributes> matcher = new BiPredicate<Path, BasicFileAttributes>() {
             private long lastTimestamp = System.currentTimeMillis();
 
@@ -623,6 +661,216 @@ public class ListFile extends AbstractListProcessor<FileInfo> {
         }
     }
 
+    private List<FileInfo> performParallelListing(final ForkJoinPool pool, final Path basePath, final Long minTimestamp, final BiPredicate<Path, BasicFileAttributes> fileFilter)
+            throws IOException {
+        final long start = System.currentTimeMillis();
+        final ParallelListing listing = new ParallelListing(basePath, minTimestamp, fileFilter);
+
+        final Set<Object> baseAncestorKeys = new HashSet<>();
+        try {
+            baseAncestorKeys.add(getDirectoryKey(basePath, Files.readAttributes(basePath, BasicFileAttributes.class)));
+        } catch (final IOException ioe) {
+            getLogger().debug("Unable to determine file key for {}: {}", new Object[] {basePath, ioe.getMessage()});
+        }
+
+        try {
+            final List<FileInfo> result = pool.invoke(new DirectoryListingTask(listing, basePath, baseAncestorKeys));
+
+            // As with the serial walk, an error other than a denied access ends the listing. The entries gathered by then are incomplete,
+            // so the listing fails instead of returning them.
+            final IOException failure = listing.failure.get();
+            if (failure != null) {
+                throw failure;
+            }
+
+            final long millis = System.currentTimeMillis() - start;
+
+            getLogger().debug("Took {} milliseconds to perform listing of {} directories using {} threads and gather {} entries",
+                new Object[] {millis, listing.directoryCount.get(), pool.getParallelism(), result.size()});
+            return result;
+        } catch (final ProcessorStoppedException pse) {
+            getLogger().info("Processor was stopped so will not complete listing of Files");
+            return Collections.emptyList();
+        }
+    }
+
+    private static Object getDirectoryKey(final Path directory, final BasicFileAttributes attributes) throws IOException {
+        return attributes.fileKey() == null ? directory.toRealPath() : attributes.fileKey();
+    }
+
+    private void logPerformanceIfDue() {
+        if (TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - performanceLoggingTimestamp) < 5) {
+            return;
+        }
+
+        // Directories are listed concurrently, so only one of the listing tasks should log
+        synchronized (performanceLoggingLock) {
+            if (TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - performanceLoggingTimestamp) >= 5) {
+                logPerformance();
+            }
+        }
+    }
+
+    /**
+     * State that is shared by all of the tasks of a single parallel listing.
+     */
+    private static class ParallelListing {
+        private final Path basePath;
+        private final Long minTimestamp;
+        private final BiPredicate<Path, BasicFileAttributes> fileFilter;
+        private final AtomicReference<IOException> failure = new AtomicReference<>();
+        private final AtomicInteger directoryCount = new AtomicInteger(0);
+
+        ParallelListing(final Path basePath, final Long minTimestamp, final BiPredicate<Path, BasicFileAttributes> fileFilter) {
+            this.basePath = basePath;
+            this.minTimestamp = minTimestamp;
+            this.fileFilter = fileFilter;
+        }
+
+        boolean isFailed() {
+            return failure.get() != null;
+        }
+    }
+
+    /**
+     * Lists a single directory, forking a new task for each of its subdirectories so that independent subtrees are listed concurrently.
+     * Entries are handled as they are by the serial walk, which follows symbolic links: each path is listed, and only a directory that is
+     * one of its own ancestors is treated as a cycle.
+     */
+    private class DirectoryListingTask extends RecursiveTask<List<FileInfo>> {
+        private final ParallelListing listing;
+        private final Path directory;
+        private final Set<Object> ancestorKeys;
+
+        DirectoryListingTask(final ParallelListing listing, final Path directory, final Set<Object> ancestorKeys) {
+            this.listing = listing;
+            this.directory = directory;
+            this.ancestorKeys = ancestorKeys;
+        }
+
+        @Override
+        protected List<FileInfo> compute() {
+            if (!isScheduled()) {
+                throw new ProcessorStoppedException();
+            }
+
+            final List<FileInfo> result = new ArrayList<>();
+            if (listing.isFailed()) {
+                return result;
+            }
+
+            if (!Files.isReadable(directory)) {
+                getLogger().debug("The following directory is not readable: {}", new Object[] {directory.toString()});
+                return result;
+            }
+
+            final DirectoryStream<Path> directoryStream;
+            try {
+                directoryStream = Files.newDirectoryStream(directory);
+            } catch (final AccessDeniedException ade) {
+                getLogger().debug("The following file is not readable: {}", new Object[] {directory.toString()});
+                return result;
+            } catch (final IOException ioe) {
+                fail(directory, ioe);
+                return result;
+            }
+
+            listing.directoryCount.incrementAndGet();
+            final String relativePath = listing.basePath.relativize(directory).toString();
+            final List<DirectoryListingTask> subdirectoryTasks = new ArrayList<>();
+
+            try (final DirectoryStream<Path> stream = directoryStream) {
+                long lastTimestamp = System.currentTimeMillis();
+
+                for (final Path path : stream) {
+                    if (listing.isFailed()) {
+                        break;
+                    }
+
+                    final BasicFileAttributes attributes;
+                    try {
+                        attributes = readAttributes(path);
+                    } catch (final AccessDeniedException ade) {
+                        getLogger().debug("The following file is not readable: {}", new Object[] {path.toString()});
+                        continue;
+                    } catch (final IOException ioe) {
+                        fail(path, ioe);
+                        break;
+                    }
+
+                    final long now = System.currentTimeMillis();
+                    final String filename = path.getFileName().toString();
+                    performanceTracker.acceptOperation(DiskOperation.RETRIEVE_NEXT_FILE_FROM_OS, relativePath, filename, now - lastTimestamp);
+                    lastTimestamp = now;
+
+                    if (attributes.isDirectory()) {
+                        final Object directoryKey;
+                        try {
+                            directoryKey = getDirectoryKey(path, attributes);
+                        } catch (final IOException ioe) {
+                            fail(path, ioe);
+                            break;
+                        }
+
+                        if (ancestorKeys.contains(directoryKey)) {
+                            fail(path, new FileSystemLoopException(path.toString()));
+                            break;
+                        }
+
+                        final Set<Object> subdirectoryAncestorKeys = new HashSet<>(ancestorKeys);
+                        subdirectoryAncestorKeys.add(directoryKey);
+
+                        final DirectoryListingTask subdirectoryTask = new DirectoryListingTask(listing, path, subdirectoryAncestorKeys);
+                        subdirectoryTask.fork();
+                        subdirectoryTasks.add(subdirectoryTask);
+                        continue;
+                    }
+
+                    final TimedOperationKey operationKey = performanceTracker.beginOperation(DiskOperation.FILTER, relativePath, filename);
+                    try {
+                        if ((listing.minTimestamp == null || attributes.lastModifiedTime().toMillis() >= listing.minTimestamp) && listing.fileFilter.test(path, attributes)) {
+                            final FileInfo fileInfo = new FileInfo.Builder()
+                                .directory(false)
+                                .filename(filename)
+                                .fullPathFileName(path.toAbsolutePath().toString())
+                                .lastModifiedTime(attributes.lastModifiedTime().toMillis())
+                                .size(attributes.size())
+                                .build();
+
+                            result.add(fileInfo);
+                        }
+                    } finally {
+                        performanceTracker.completeOperation(operationKey);
+                    }
+                }
+            } catch (final IOException | DirectoryIteratorException e) {
+                getLogger().error("Error during visiting directory {}: {}", new Object[] {directory.toString(), e.getMessage()}, e);
+            }
+
+            logPerformanceIfDue();
+
+            for (final DirectoryListingTask subdirectoryTask : subdirectoryTasks) {
+                result.addAll(subdirectoryTask.join());
+            }
+
+            return result;
+        }
+
+        private BasicFileAttributes readAttributes(final Path path) throws IOException {
+            try {
+                return Files.readAttributes(path, BasicFileAttributes.class);
+            } catch (final IOException ioe) {
+                // As in the serial walk, an entry whose link cannot be followed, such as a broken symbolic link, is listed as the link itself
+                return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+            }
+        }
+
+        private void fail(final Path path, final IOException ioe) {
+            getLogger().error("Error during visiting file {}: {}", new Object[] {path.toString(), ioe.getMessage()}, ioe);
+            listing.failure.compareAndSet(null, ioe);
+        }
+    }
+
     @Override
     protected boolean isListingResetNecessary(final PropertyDescriptor property) {
         return DIRECTORY.equals(property)
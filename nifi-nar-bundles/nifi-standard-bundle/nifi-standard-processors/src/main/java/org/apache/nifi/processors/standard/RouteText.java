@@ -51,11 +51,14 @@ import org.apache.nifi.processor.io.InputStreamCallback;
 import org.apache.nifi.processor.io.OutputStreamCallback;
 import org.apache.nifi.processor.util.StandardValidators;
 import org.apache.nifi.stream.io.util.LineDemarcator;
+import org.apache.nifi.util.search.SearchTerm;
+import org.apache.nifi.util.search.ahocorasick.AhoCorasick;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -210,6 +213,12 @@ public class RouteText extends AbstractProcessor {
     private volatile Map<Relationship, PropertyValue> propertyMap = new HashMap<>();
     private volatile Pattern groupingRegex = null;
 
+    /**
+     * Dictionary of all user-defined values when using the 'Contains' Matching Strategy, so that each line can be scanned
+     * once regardless of how many properties are defined. Rebuilt only when the evaluated property values change.
+     */
+    private volatile ContainsDictionary containsDictionary = null;
+
     @VisibleForTesting
     final static int PATTERNS_CACHE_MAXIMUM_ENTRIES = 1024;
 
@@ -411,6 +420,9 @@ public class RouteText extends AbstractProcessor {
             }
         }
 
+        final ContainsDictionary dictionary = getContainsDictionary(propValueMap, matchStrategy, ignoreCase);
+        final boolean findAllMatches = !ROUTE_TO_MATCHED_WHEN_ANY_PROPERTY_MATCHES.getValue().equals(routeStrategy);
+
         final Map<Relationship, Map<Group, FlowFile>> flowFileMap = new HashMap<>();
         final Pattern groupPattern = groupingRegex;
 
@@ -451,6 +463,24 @@ public class RouteText extends AbstractProcessor {
                         variables.put("line", line);
                         variables.put("lineNo", String.valueOf(++lineCount));
 
+                        if (dictionary != null) {
+                            final Set<Relationship> matchedRelationships = dictionary.findMatches(matchLine, findAllMatches);
+                            final Group group = getGroup(matchLine, groupPattern);
+
+                            if (ROUTE_TO_MATCHING_PROPERTY_NAME.getValue().equals(routeStrategy) && !matchedRelationships.isEmpty()) {
+                                for (final Relationship relationship : matchedRelationships) {
+                                    appendLine(session, flowFileMap, relationship, originalFlowFile, line, charset, group);
+                                }
+                            } else if (ROUTE_TO_MATCHED_WHEN_ANY_PROPERTY_MATCHES.getValue().equals(routeStrategy) && !matchedRelationships.isEmpty()) {
+                                appendLine(session, flowFileMap, REL_MATCH, originalFlowFile, line, charset, group);
+                            } else if (ROUTE_TO_MATCHED_WHEN_ALL_PROPERTIES_MATCH.getValue().equals(routeStrategy) && matchedRelationships.size() == propValueMap.size()) {
+                                appendLine(session, flowFileMap, REL_MATCH, originalFlowFile, line, charset, group);
+                            } else {
+                                appendLine(session, flowFileMap, REL_NO_MATCH, originalFlowFile, line, charset, group);
+                            }
+                            continue;
+                        }
+
                         int propertiesThatMatchedLine = 0;
                         for (final Map.Entry<Relationship, Object> entry : propValueMap.entrySet()) {
                             boolean lineMatchesProperty = lineMatches(matchLine, entry.getValue(), matchStrategy, ignoreCase, originalFlowFile, variables);
@@ -527,6 +557,24 @@ public class RouteText extends AbstractProcessor {
     }
 
 
+    /**
+     * Returns a dictionary of the given values if the 'Contains' Matching Strategy is used with more than one property, or <code>null</code>
+     * if each property should be evaluated individually against each line.
+     */
+    private ContainsDictionary getContainsDictionary(final Map<Relationship, Object> propValueMap, final String matchStrategy, final boolean ignoreCase) {
+        if (!containsValue.equals(matchStrategy) || propValueMap.size() < 2 || propValueMap.containsValue("")) {
+            return null;
+        }
+
+        ContainsDictionary dictionary = containsDictionary;
+        if (dictionary == null || !dictionary.isFor(propValueMap, ignoreCase)) {
+            dictionary = new ContainsDictionary(propValueMap, ignoreCase);
+            containsDictionary = dictionary;
+        }
+
+        return dictionary;
+    }
+
     private Group getGroup(final String line, final Pattern groupPattern) {
         if (groupPattern == null) {
             return EMPTY_GROUP;
@@ -606,6 +654,53 @@ public class RouteText extends AbstractProcessor {
     }
 
 
+    /**
+     * Aho-Corasick dictionary of the values to search for when using the 'Contains' Matching Strategy. Both the values and
+     * the lines are encoded as UTF-8 for the purpose of matching, since a String contains another String if and only if its
+     * UTF-8 encoding contains the UTF-8 encoding of the other.
+     */
+    private static class ContainsDictionary {
+        private final Map<Relationship, Object> values;
+        private final boolean ignoreCase;
+        private final AhoCorasick<List<Relationship>> search = new AhoCorasick<>();
+
+        public ContainsDictionary(final Map<Relationship, Object> values, final boolean ignoreCase) {
+            this.values = new HashMap<>(values);
+            this.ignoreCase = ignoreCase;
+
+            // Multiple properties may have the same value, so each term references all Relationships that it applies to
+            final Map<String, List<Relationship>> relationshipsByValue = new HashMap<>();
+            for (final Map.Entry<Relationship, Object> entry : values.entrySet()) {
+                final String value = ignoreCase ? ((String) entry.getValue()).toLowerCase() : (String) entry.getValue();
+                relationshipsByValue.computeIfAbsent(value, k -> new ArrayList<>()).add(entry.getKey());
+            }
+
+            final Set<SearchTerm<List<Relationship>>> terms = new HashSet<>();
+            for (final Map.Entry<String, List<Relationship>> entry : relationshipsByValue.entrySet()) {
+                terms.add(new SearchTerm<>(entry.getKey().getBytes(StandardCharsets.UTF_8), false, entry.getValue()));
+            }
+            search.initializeDictionary(terms);
+        }
+
+        public boolean isFor(final Map<Relationship, Object> values, final boolean ignoreCase) {
+            return this.ignoreCase == ignoreCase && this.values.equals(values);
+        }
+
+        public Set<Relationship> findMatches(final String line, final boolean findAll) {
+            final String matchLine = ignoreCase ? line.toLowerCase() : line;
+            final Set<SearchTerm<List<Relationship>>> matchedTerms = search.search(matchLine.getBytes(StandardCharsets.UTF_8), findAll).getResults().keySet();
+            if (matchedTerms.isEmpty()) {
+                return Collections.emptySet();
+            }
+
+            final Set<Relationship> relationships = new HashSet<>();
+            for (final SearchTerm<List<Relationship>> term : matchedTerms) {
+                relationships.addAll(term.getReference());
+            }
+            return relationships;
+        }
+    }
+
     private static class Group {
         private final List<String> capturedValues;
 
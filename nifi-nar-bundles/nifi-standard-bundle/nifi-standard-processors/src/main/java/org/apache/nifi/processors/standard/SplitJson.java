@@ -16,6 +16,8 @@
  */
 package org.apache.nifi.processors.standard;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -26,7 +28,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.nifi.annotation.behavior.EventDriven;
@@ -51,8 +56,12 @@ import org.apache.nifi.processor.ProcessContext;
 import org.apache.nifi.processor.ProcessSession;
 import org.apache.nifi.processor.ProcessorInitializationContext;
 import org.apache.nifi.processor.Relationship;
+import org.apache.nifi.processor.exception.ProcessException;
 import org.apache.nifi.processor.util.StandardValidators;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.JsonPath;
@@ -82,7 +91,8 @@ import static org.apache.nifi.flowfile.attributes.FragmentAttributes.copyAttribu
                 description = "The number of split FlowFiles generated from the parent FlowFile"),
         @WritesAttribute(attribute = "segment.original.filename ", description = "The filename of the parent FlowFile")
 })
-@SystemResourceConsideration(resource = SystemResource.MEMORY, description = "The entirety of the FlowFile's content (as a JsonNode object) is read into memory, " +
+@SystemResourceConsideration(resource = SystemResource.MEMORY, description = "Unless the JsonPath Expression consists only of property names and array indices, " +
+        "optionally followed by a wildcard (for example $.a.b[*]), the entirety of the FlowFile's content (as a JsonNode object) is read into memory, " +
         "in addition to all of the generated FlowFiles representing the split JSON. If many splits are generated due to the size of the JSON, or how the JSON is " +
         "configured to be split, a two-phase approach may be necessary to avoid excessive use of memory.")
 public class SplitJson extends AbstractJsonPathProcessor {
@@ -112,6 +122,8 @@ public class SplitJson extends AbstractJsonPathProcessor {
     private List<PropertyDescriptor> properties;
     private Set<Relationship> relationships;
 
+    private static final Pattern STREAMING_PATH_SEGMENT_PATTERN = Pattern.compile("\\['([^'\\\\]*)'\\]|\\[(\\d+)\\]");
+
     private final AtomicReference<JsonPath> JSON_PATH_REF = new AtomicReference<>();
     private volatile String nullDefaultValue;
 
@@ -182,6 +194,25 @@ public class SplitJson extends AbstractJsonPathProcessor {
         }
 
         final ComponentLog logger = getLogger();
+        final JsonPath jsonPath = JSON_PATH_REF.get();
+        final String fragmentId = UUID.randomUUID().toString();
+
+        // An array that is addressed by a simple path can be split while streaming over the content, rather than reading the whole document into memory
+        final List<Object> streamingPath = getStreamingPath(jsonPath);
+        if (streamingPath != null) {
+            final List<FlowFile> splits = splitStreaming(processSession, original, streamingPath, fragmentId);
+            if (splits != null) {
+                final String fragmentCount = Integer.toString(splits.size());
+                for (final FlowFile split : splits) {
+                    processSession.transfer(processSession.putAttribute(split, FRAGMENT_COUNT.key(), fragmentCount), REL_SPLIT);
+                }
+
+                original = copyAttributesToOriginal(processSession, original, fragmentId, splits.size());
+                processSession.transfer(original, REL_ORIGINAL);
+                logger.info("Split {} into {} FlowFiles", new Object[]{original, splits.size()});
+                return;
+            }
+        }
 
         DocumentContext documentContext;
         try {
@@ -192,8 +223,6 @@ public class SplitJson extends AbstractJsonPathProcessor {
             return;
         }
 
-        final JsonPath jsonPath = JSON_PATH_REF.get();
-
         Object jsonPathResult;
         try {
             jsonPathResult = documentContext.read(jsonPath);
@@ -212,7 +241,6 @@ public class SplitJson extends AbstractJsonPathProcessor {
         List resultList = (List) jsonPathResult;
 
         Map<String, String> attributes = new HashMap<>();
-        final String fragmentId = UUID.randomUUID().toString();
         attributes.put(FRAGMENT_ID.key(), fragmentId);
         attributes.put(FRAGMENT_COUNT.key(), Integer.toString(resultList.size()));
 
@@ -233,4 +261,152 @@ public class SplitJson extends AbstractJsonPathProcessor {
         processSession.transfer(original, REL_ORIGINAL);
         logger.info("Split {} into {} FlowFiles", new Object[]{original, resultList.size()});
     }
+
+    /**
+     * Splits the array at the given path while streaming over the content of the FlowFile, so that only one element of the array is held in memory at a time.
+     *
+     * @return the splits, without the fragment count, or <code>null</code> if the path does not address an array or the content is not valid JSON, in which
+     * case no splits remain and the content must be evaluated as a document
+     */
+    private List<FlowFile> splitStreaming(final ProcessSession processSession, final FlowFile original, final List<Object> path, final String fragmentId) {
+        final List<FlowFile> splits = new ArrayList<>();
+        final AtomicBoolean split = new AtomicBoolean(false);
+
+        try {
+            processSession.read(original, in -> {
+                try (final JsonParser parser = getObjectMapper().getFactory().createParser(in)) {
+                    if (!advanceToArray(parser, path)) {
+                        return;
+                    }
+
+                    final Map<String, String> attributes = new HashMap<>();
+                    attributes.put(FRAGMENT_ID.key(), fragmentId);
+
+                    final ObjectReader elementReader = getObjectMapper().readerFor(Object.class);
+                    JsonToken token;
+                    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                        if (token == null) {
+                            throw new EOFException("Unexpected end of JSON content");
+                        }
+
+                        final Object element = elementReader.readValue(parser);
+                        FlowFile splitFlowFile = processSession.create(original);
+                        splitFlowFile = processSession.write(splitFlowFile, out -> out.write(getResultRepresentation(element, nullDefaultValue).getBytes(StandardCharsets.UTF_8)));
+
+                        attributes.put(SEGMENT_ORIGINAL_FILENAME.key(), splitFlowFile.getAttribute(CoreAttributes.FILENAME.key()));
+                        attributes.put(FRAGMENT_INDEX.key(), Integer.toString(splits.size()));
+                        splits.add(processSession.putAllAttributes(splitFlowFile, attributes));
+                    }
+
+                    // Ensure that the remainder of the document is well-formed, as it would have to be in order to parse it as a whole
+                    while (!parser.getParsingContext().inRoot()) {
+                        token = parser.nextToken();
+                        if (token == null) {
+                            throw new EOFException("Unexpected end of JSON content");
+                        }
+                        if (token.isStructStart()) {
+                            parser.skipChildren();
+                        }
+                    }
+
+                    split.set(true);
+                }
+            });
+        } catch (final ProcessException e) {
+            // Content that is not valid JSON is reported when it is evaluated as a document
+            getLogger().debug("Could not split {} while streaming; evaluating it as a document", new Object[]{original, e});
+            split.set(false);
+        }
+
+        if (!split.get()) {
+            processSession.remove(splits);
+            return null;
+        }
+
+        return splits;
+    }
+
+    /**
+     * Advances the parser to the start of the array at the given path
+     *
+     * @return <code>true</code> if the parser is positioned at the start of the array, or <code>false</code> if the path does not address an array
+     */
+    private static boolean advanceToArray(final JsonParser parser, final List<Object> path) throws IOException {
+        JsonToken token = parser.nextToken();
+        for (final Object segment : path) {
+            boolean found = false;
+            if (segment instanceof String) {
+                if (token != JsonToken.START_OBJECT) {
+                    return false;
+                }
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String fieldName = parser.getCurrentName();
+                    token = parser.nextToken();
+                    if (segment.equals(fieldName)) {
+                        found = true;
+                        break;
+                    }
+                    parser.skipChildren();
+                }
+            } else {
+                if (token != JsonToken.START_ARRAY) {
+                    return false;
+                }
+
+                final int index = (Integer) segment;
+                for (int i = 0; (token = parser.nextToken()) != JsonToken.END_ARRAY && token != null; i++) {
+                    if (i == index) {
+                        found = true;
+                        break;
+                    }
+                    parser.skipChildren();
+                }
+            }
+
+            if (!found) {
+                return false;
+            }
+        }
+
+        return token == JsonToken.START_ARRAY;
+    }
+
+    /**
+     * Returns the property names and array indices that make up the given path if it consists only of such segments, optionally followed by a
+     * wildcard, as these are the paths whose array can be split while streaming; returns <code>null</code> for any other path.
+     */
+    static List<Object> getStreamingPath(final JsonPath jsonPath) {
+        // The path is normalized by JsonPath, for example $.a.b[0][*] becomes $['a']['b'][0][*]
+        String path = jsonPath.getPath();
+        if (!path.startsWith("$")) {
+            return null;
+        }
+        if (path.endsWith("[*]")) {
+            path = path.substring(0, path.length() - 3);
+        }
+
+        final List<Object> segments = new ArrayList<>();
+        final Matcher matcher = STREAMING_PATH_SEGMENT_PATTERN.matcher(path);
+        int position = 1;
+        while (position < path.length()) {
+            matcher.region(position, path.length());
+            if (!matcher.lookingAt()) {
+                return null;
+            }
+
+            if (matcher.group(1) != null) {
+                segments.add(matcher.group(1));
+            } else {
+                try {
+                    segments.add(Integer.parseInt(matcher.group(2)));
+                } catch (final NumberFormatException e) {
+                    return null;
+                }
+            }
+            position = matcher.end();
+        }
+
+        return segments;
+    }
 }
\ No newline at end of file
@@ -52,18 +52,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -209,7 +210,9 @@ public class SplitText extends AbstractProcessor {
             return;
         }
         AtomicBoolean error = new AtomicBoolean();
-        List<SplitInfo> computedSplitsInfo = new ArrayList<>();
+        // Splits are consumed from the head while the FlowFiles are generated, so use a Deque rather than removing from the head of a List,
+        // which would be quadratic in the number of splits
+        Deque<SplitInfo> computedSplitsInfo = new ArrayDeque<>();
         AtomicReference<SplitInfo> headerSplitInfoRef = new AtomicReference<>();
         processSession.read(sourceFlowFile, new InputStreamCallback() {
             @Override
@@ -249,7 +252,7 @@ public class SplitText extends AbstractProcessor {
                     }
                     long stop = System.nanoTime();
                     if (getLogger().isDebugEnabled()) {
-                        getLogger().debug("Computed splits in " + (stop - start) + " milliseconds.");
+                        getLogger().debug("Computed " + computedSplitsInfo.size() + " splits in " + TimeUnit.NANOSECONDS.toMillis(stop - start) + " milliseconds.");
                     }
                 }
             }
@@ -291,7 +294,7 @@ public class SplitText extends AbstractProcessor {
      * it signifies the header information and its contents will be included in
      * each and every computed split.
      */
-    private List<FlowFile> generateSplitFlowFiles(String fragmentId, FlowFile sourceFlowFile, SplitInfo splitInfo, List<SplitInfo> computedSplitsInfo, ProcessSession processSession){
+    private List<FlowFile> generateSplitFlowFiles(String fragmentId, FlowFile sourceFlowFile, SplitInfo splitInfo, Deque<SplitInfo> computedSplitsInfo, ProcessSession processSession){
         List<FlowFile> splitFlowFiles = new ArrayList<>();
 
         FlowFile headerFlowFile = null;
@@ -305,17 +308,23 @@ public class SplitText extends AbstractProcessor {
         if ((computedSplitsInfo.size() == 0) && (headerFlowFile != null)) {
             FlowFile splitFlowFile = processSession.clone(sourceFlowFile, 0, headerFlowFile.getSize() - headerCrlfLength);
             splitFlowFile = this.updateAttributes(processSession, splitFlowFile, 0, splitFlowFile.getSize(),
-                    fragmentId, fragmentIndex++, sourceFlowFile.getAttribute(CoreAttributes.FILENAME.key()));
+                    fragmentId, fragmentIndex++, null, sourceFlowFile.getAttribute(CoreAttributes.FILENAME.key()));
             splitFlowFiles.add(splitFlowFile);
         } else {
-            final Iterator<SplitInfo> itr = computedSplitsInfo.iterator();
-            while (itr.hasNext()) {
-                final SplitInfo computedSplitInfo = itr.next();
-                itr.remove();
+            // Determine the real split count (i.e. don't count splits for which there will be no clone) up front so that
+            // fragment.count can be added along with the other attributes rather than by updating every split a second time
+            int splitCount = 0;
+            for (final SplitInfo computedSplitInfo : computedSplitsInfo) {
+                if (this.isSplitCloned(computedSplitInfo, headerFlowFile)) {
+                    splitCount++;
+                }
+            }
+            final String fragmentCount = String.valueOf(splitCount);
 
+            SplitInfo computedSplitInfo;
+            while ((computedSplitInfo = computedSplitsInfo.poll()) != null) {
                 long length = this.removeTrailingNewLines ? computedSplitInfo.trimmedLength : computedSplitInfo.length;
-                boolean proceedWithClone = headerFlowFile != null || length > 0;
-                if (proceedWithClone) {
+                if (this.isSplitCloned(computedSplitInfo, headerFlowFile)) {
                     FlowFile splitFlowFile = null;
                     if (headerFlowFile != null) {
                         if (length > 0) {
@@ -329,21 +338,10 @@ public class SplitText extends AbstractProcessor {
                     }
 
                     splitFlowFile = this.updateAttributes(processSession, splitFlowFile, computedSplitInfo.lineCount, splitFlowFile.getSize(), fragmentId, fragmentIndex++,
-                            sourceFlowFile.getAttribute(CoreAttributes.FILENAME.key()));
+                            fragmentCount, sourceFlowFile.getAttribute(CoreAttributes.FILENAME.key()));
                     splitFlowFiles.add(splitFlowFile);
                 }
             }
-
-            // Update fragment.count with real split count (i.e. don't count files for which there was no clone)
-            final String fragmentCount = String.valueOf(fragmentIndex - 1); // -1 because the index starts at 1 (see above)
-
-            final ListIterator<FlowFile> flowFileItr = splitFlowFiles.listIterator();
-            while (flowFileItr.hasNext()) {
-                FlowFile splitFlowFile = flowFileItr.next();
-
-                final FlowFile updated = processSession.putAttribute(splitFlowFile, FRAGMENT_COUNT, fragmentCount);
-                flowFileItr.set(updated);
-            }
         }
 
         getLogger().info("Split {} into {} FlowFiles{}", new Object[] {sourceFlowFile, splitFlowFiles.size(), headerFlowFile == null ? " containing headers." : "."});
@@ -354,6 +352,11 @@ public class SplitText extends AbstractProcessor {
         return splitFlowFiles;
     }
 
+    private boolean isSplitCloned(SplitInfo computedSplitInfo, FlowFile headerFlowFile) {
+        long length = this.removeTrailingNewLines ? computedSplitInfo.trimmedLength : computedSplitInfo.length;
+        return headerFlowFile != null || length > 0;
+    }
+
     /**
      * Will concatenate the contents of the provided array of {@link FlowFile}s
      * into a single {@link FlowFile}. While this operation is as general as it
@@ -379,12 +382,15 @@ public class SplitText extends AbstractProcessor {
     }
 
     private FlowFile updateAttributes(ProcessSession processSession, FlowFile splitFlowFile, long splitLineCount, long splitFlowFileSize,
-            String splitId, int splitIndex, String origFileName) {
+            String splitId, int splitIndex, String splitCount, String origFileName) {
         Map<String, String> attributes = new HashMap<>();
         attributes.put(SPLIT_LINE_COUNT, String.valueOf(splitLineCount));
         attributes.put(FRAGMENT_SIZE, String.valueOf(splitFlowFile.getSize()));
         attributes.put(FRAGMENT_ID, splitId);
         attributes.put(FRAGMENT_INDEX, String.valueOf(splitIndex));
+        if (splitCount != null) {
+            attributes.put(FRAGMENT_COUNT, splitCount);
+        }
         attributes.put(SEGMENT_ORIGINAL_FILENAME, origFileName);
         return processSession.putAllAttributes(splitFlowFile, attributes);
     }
@@ -25,6 +25,7 @@ import org.apache.nifi.annotation.behavior.Restriction;
 import org.apache.nifi.annotation.behavior.Stateful;
 import org.apache.nifi.annotation.behavior.TriggerSerially;
 import org.apache.nifi.annotation.behavior.WritesAttribute;
+import org.apache.nifi.annotation.behavior.WritesAttributes;
 import org.apache.nifi.annotation.documentation.CapabilityDescription;
 import org.apache.nifi.annotation.documentation.Tags;
 import org.apache.nifi.annotation.lifecycle.OnScheduled;
@@ -94,7 +95,11 @@ import java.util.zip.Checksum;
         + "ingesting files that have been compressed when 'rolled over'.")
 @Stateful(scopes = {Scope.LOCAL, Scope.CLUSTER}, description = "Stores state about where in the Tailed File it left off so that on restart it does not have to duplicate data. "
         + "State is stored either local or clustered depend on the <File Location> property.")
-@WritesAttribute(attribute = "tailfile.original.path", description = "Path of the original file the flow file comes from.")
+@WritesAttributes({
+    @WritesAttribute(attribute = "tailfile.original.path", description = "Path of the original file the flow file comes from."),
+    @WritesAttribute(attribute = "tailfile.lag", description = "The number of bytes of the tailed file that had not yet been consumed when the flow file "
+        + "was created, which shows how far behind the end of the file the Processor is. Not written for data read from a rolled-over file.")
+})
 @Restricted(
         restrictions = {
                 @Restriction(
@@ -245,6 +250,10 @@ public class TailFile extends AbstractProcessor {
     private volatile AtomicBoolean isMultiChanging = new AtomicBoolean(false);
     private volatile boolean requireStateLookup = true;
 
+    // State updates for tailed files that had no data to consume are accumulated here, and written to the State Manager along with
+    // the next update that must be written immediately, or at the end of the trigger
+    private final Map<String, String> pendingState = new HashMap<>();
+
     @Override
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
         final List<PropertyDescriptor> properties = new ArrayList<>();
@@ -625,18 +634,33 @@ public class TailFile extends AbstractProcessor {
             return;
         }
 
-        for (String tailFile : states.keySet()) {
-            try {
-                processTailFile(context, session, tailFile);
-            } catch (NulCharacterEncounteredException e) {
-                getLogger().warn("NUL character encountered in " + tailFile + " and '" + REREAD_ON_NUL.getDisplayName() + "' is set to 'true', yielding.");
-                context.yield();
-                return;
+        boolean dataConsumed = false;
+        try {
+            for (String tailFile : states.keySet()) {
+                try {
+                    dataConsumed |= processTailFile(context, session, tailFile);
+                } catch (NulCharacterEncounteredException e) {
+                    getLogger().warn("NUL character encountered in " + tailFile + " and '" + REREAD_ON_NUL.getDisplayName() + "' is set to 'true', yielding.");
+                    context.yield();
+                    return;
+                }
             }
+        } finally {
+            flushState(context);
+        }
+
+        // Only yield if none of the files had any data; otherwise a single idle file would hold back all of the others
+        if (!dataConsumed) {
+            context.yield();
         }
     }
 
-    private void processTailFile(final ProcessContext context, final ProcessSession session, final String tailFile) {
+    /**
+     * Tails the given file, transferring any newly written data to 'success'.
+     *
+     * @return <code>true</code> if the file had data to consume, <code>false</code> otherwise
+     */
+    private boolean processTailFile(final ProcessContext context, final ProcessSession session, final String tailFile) {
         // If user changes the file that is being tailed, we need to consume the already-rolled-over data according
         // to the Initial Start Position property
         boolean rolloverOccurred;
@@ -674,7 +698,7 @@ public class TailFile extends AbstractProcessor {
                 } catch (final IOException ioe) {
                     getLogger().error("Attempted to position Reader at current position in file {} but failed to do so due to {}", new Object[]{file, ioe.toString()}, ioe);
                     context.yield();
-                    return;
+                    return false;
                 }
             }
 
@@ -713,7 +737,7 @@ public class TailFile extends AbstractProcessor {
             reader = createReader(file, position);
             if (reader == null) {
                 context.yield();
-                return;
+                return false;
             }
         }
 
@@ -766,12 +790,11 @@ public class TailFile extends AbstractProcessor {
         }
 
         if (file.length() == position || !file.exists()) {
-            // no data to consume so rather than continually running, yield to allow other processors to use the thread.
+            // no data to consume; the caller will yield if none of the other files has data either
             getLogger().debug("No data to consume; created no FlowFiles");
             tfo.setState(new TailFileState(tailFile, file, reader, position, timestamp, length, checksum, state.getBuffer()));
-            persistState(tfo, context);
-            context.yield();
-            return;
+            deferState(tfo);
+            return false;
         }
 
         // If there is data to consume, read as much as we can.
@@ -818,10 +841,11 @@ public class TailFile extends AbstractProcessor {
                 flowFileName = baseName + "." + position + "-" + positionHolder.get();
             }
 
-            final Map<String, String> attributes = new HashMap<>(3);
+            final Map<String, String> attributes = new HashMap<>(4);
             attributes.put(CoreAttributes.FILENAME.key(), flowFileName);
             attributes.put(CoreAttributes.MIME_TYPE.key(), "text/plain");
             attributes.put("tailfile.original.path", tailFile);
+            attributes.put("tailfile.lag", String.valueOf(Math.max(0L, file.length() - positionHolder.get())));
             flowFile = session.putAllAttributes(flowFile, attributes);
 
             session.getProvenanceReporter().receive(flowFile, file.toURI().toString(), "FlowFile contains bytes " + position + " through " + positionHolder.get() + " of source file",
@@ -845,6 +869,8 @@ public class TailFile extends AbstractProcessor {
         // We must commit session before persisting state in order to avoid data loss on restart
         session.commit();
         persistState(tfo, context);
+
+        return true;
     }
 
     /**
@@ -1029,11 +1055,31 @@ public class TailFile extends AbstractProcessor {
     }
 
     private void persistState(final Map<String, String> state, final ProcessContext context) {
+        pendingState.putAll(state);
+        flushState(context);
+    }
+
+    /**
+     * Records the state of a file that had no data to consume without writing it yet, since each write rewrites the state of every
+     * tailed file. Nothing was committed for such a file, so if the update is lost on restart, the file is simply examined again.
+     */
+    private void deferState(final TailFileObject tfo) {
+        pendingState.putAll(tfo.getState().toStateMap(tfo.getFilenameIndex()));
+    }
+
+    /**
+     * Writes all state accumulated by {@link #persistState(Map, ProcessContext)} and {@link #deferState(TailFileObject)} to the State Manager.
+     */
+    private void flushState(final ProcessContext context) {
+        if (pendingState.isEmpty()) {
+            return;
+        }
+
         try {
-            StateMap oldState = context.getStateManager().getState(getStateScope(context));
+            final Map<String, String> oldState = context.getStateManager().getState(getStateScope(context)).toMap();
             Map<String, String> updatedState = new HashMap<String, String>();
 
-            for(String key : oldState.toMap().keySet()) {
+            for(String key : oldState.keySet()) {
                 // These states are stored by older version of NiFi, and won't be used anymore.
                 // New states have 'file.<index>.' prefix.
                 if (TailFileState.StateKeys.CHECKSUM.equals(key)
@@ -1046,10 +1092,14 @@ public class TailFile extends AbstractProcessor {
                 updatedState.put(key, oldState.get(key));
             }
 
-            updatedState.putAll(state);
-            context.getStateManager().setState(updatedState, getStateScope(context));
+            updatedState.putAll(pendingState);
+            if (!updatedState.equals(oldState)) {
+                context.getStateManager().setState(updatedState, getStateScope(context));
+            }
         } catch (final IOException e) {
             getLogger().warn("Failed to store state due to {}; some data may be duplicated on restart of NiFi", new Object[]{e});
+        } finally {
+            pendingState.clear();
         }
     }
 
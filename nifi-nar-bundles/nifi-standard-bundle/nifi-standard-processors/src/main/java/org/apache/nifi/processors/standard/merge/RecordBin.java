@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -71,6 +72,11 @@ public class RecordBin {
 
     private volatile int requiredRecordCount = -1;
 
+    /**
+     * Orders bins by the time at which they were created, oldest first
+     */
+    static final Comparator<RecordBin> CREATION_ORDER = Comparator.comparingLong((RecordBin bin) -> bin.creationNanos).thenComparingLong(bin -> bin.id);
+
 
     public RecordBin(final ProcessContext context, final ProcessSession session, final ComponentLog logger, final RecordBinThresholds thresholds) {
         this.session = session;
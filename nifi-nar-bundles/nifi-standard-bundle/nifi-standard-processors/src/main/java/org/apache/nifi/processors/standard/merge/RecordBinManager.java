@@ -34,6 +34,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -51,6 +53,7 @@ public class RecordBinManager {
 
     private final AtomicLong maxBinAgeNanos = new AtomicLong(Long.MAX_VALUE);
     private final Map<String, List<RecordBin>> groupBinMap = new HashMap<>(); // guarded by lock
+    private final NavigableMap<RecordBin, String> binsByAge = new TreeMap<>(RecordBin.CREATION_ORDER); // guarded by lock; bin to group, oldest first
     private final Lock lock = new ReentrantLock();
 
     private final AtomicInteger binCount = new AtomicInteger(0);
@@ -76,6 +79,7 @@ public class RecordBinManager {
                 }
             }
             groupBinMap.clear();
+            binsByAge.clear();
             binCount.set(0);
         } finally {
             lock.unlock();
@@ -169,6 +173,7 @@ public class RecordBinManager {
                 // track of a Bin. If we don't lose this, we could completely lose a Bin.
                 final List<RecordBin> bins = groupBinMap.computeIfAbsent(groupIdentifier, grpId -> new CopyOnWriteArrayList<>());
                 bins.add(bin);
+                binsByAge.put(bin, groupIdentifier);
             } finally {
                 lock.unlock();
             }
@@ -211,22 +216,13 @@ public class RecordBinManager {
 
         lock.lock();
         try {
-            String oldestBinGroup = null;
-
-            for (final Map.Entry<String, List<RecordBin>> group : groupBinMap.entrySet()) {
-                for (final RecordBin bin : group.getValue()) {
-                    if (oldestBin == null || bin.isOlderThan(oldestBin)) {
-                        oldestBin = bin;
-                        oldestBinGroup = group.getKey();
-                    }
-                }
-            }
-
-            if (oldestBin == null) {
+            final Map.Entry<RecordBin, String> oldestEntry = binsByAge.firstEntry();
+            if (oldestEntry == null) {
                 return;
             }
 
-            removeBins(oldestBinGroup, Collections.singletonList(oldestBin));
+            oldestBin = oldestEntry.getKey();
+            removeBins(oldestEntry.getValue(), Collections.singletonList(oldestBin));
         } finally {
             lock.unlock();
         }
@@ -238,7 +234,28 @@ public class RecordBinManager {
 
     public int completeExpiredBins() throws IOException {
         final long maxNanos = maxBinAgeNanos.get();
-        return handleCompletedBins(bin -> bin.isOlderThan(maxNanos, TimeUnit.NANOSECONDS), "Bin has reached Max Bin Age");
+        if (maxNanos == Long.MAX_VALUE) {
+            return 0;
+        }
+
+        final Map<String, List<RecordBin>> expiredBinMap = new HashMap<>();
+
+        lock.lock();
+        try {
+            // Because bins are ordered by creation time, we can stop at the first bin that has not yet expired rather than visiting every bin.
+            for (final Map.Entry<RecordBin, String> entry : binsByAge.entrySet()) {
+                final RecordBin bin = entry.getKey();
+                if (!bin.isOlderThan(maxNanos, TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+
+                expiredBinMap.computeIfAbsent(entry.getValue(), ignore -> new ArrayList<>()).add(bin);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return completeBins(expiredBinMap, "Bin has reached Max Bin Age");
     }
 
     public int completeFullEnoughBins() throws IOException {
@@ -265,6 +282,10 @@ public class RecordBinManager {
             lock.unlock();
         }
 
+        return completeBins(completedBinMap, completionReason);
+    }
+
+    private int completeBins(final Map<String, List<RecordBin>> completedBinMap, final String completionReason) throws IOException {
         int completed = 0;
         for (final Map.Entry<String, List<RecordBin>> entry : completedBinMap.entrySet()) {
             final String key = entry.getKey();
@@ -290,6 +311,7 @@ public class RecordBinManager {
             if (list != null) {
                 final int initialSize = list.size();
                 list.removeAll(bins);
+                bins.forEach(binsByAge::remove);
 
                 // Determine how many items were removed from the list and
                 // update our binCount to keep track of this.
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * <p>
+ * An OutputStream that writes GZIP-compressed data, compressing blocks of the input concurrently using the given ExecutorService,
+ * in the same way that pigz does. Each block is deflated independently, using the last 32 KB of the previous block as a preset
+ * dictionary, and all but the last block are terminated with a sync flush so that the compressed blocks can simply be concatenated.
+ * The result is a single, standard GZIP member that can be decompressed by any GZIP implementation.
+ * </p>
+ *
+ * <p>
+ * The compression ratio is very slightly lower than that of a single Deflater because matches cannot span more than one block
+ * boundary and each block ends with an empty stored block. This class is not thread-safe; only the compression of the blocks
+ * is performed by other threads.
+ * </p>
+ */
+public class ParallelGZIPOutputStream extends OutputStream {
+    public static final int DEFAULT_BLOCK_SIZE = 128 * 1024;
+
+    private static final int DICTIONARY_SIZE = 32 * 1024;
+    private static final byte[] GZIP_HEADER = new byte[] {
+        0x1f, (byte) 0x8b, // magic number
+        Deflater.DEFLATED, // compression method
+        0, // flags
+        0, 0, 0, 0, // modification time
+        0, // extra flags
+        (byte) 0xff // operating system: unknown
+    };
+
+    private final OutputStream out;
+    private final int level;
+    private final ExecutorService executor;
+    private final int blockSize;
+    private final int maxPendingBlocks;
+    private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private final CRC32 crc = new CRC32();
+
+    private byte[] block;
+    private int blockLength = 0;
+    private byte[] previousBlock;
+    private int previousBlockLength = 0;
+    private long totalLength = 0L;
+    private boolean headerWritten = false;
+    private boolean closed = false;
+
+    public ParallelGZIPOutputStream(final OutputStream out, final int level, final ExecutorService executor, final int threadCount) {
+        this(out, level, executor, threadCount, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param out the stream to write the compressed data to
+     * @param level the compression level, 0-9
+     * @param executor the executor to compress the blocks with
+     * @param threadCount the number of threads that the executor provides for this stream, which determines how many blocks may be held in memory
+     * @param blockSize the number of uncompressed bytes in each block
+     */
+    public ParallelGZIPOutputStream(final OutputStream out, final int level, final ExecutorService executor, final int threadCount, final int blockSize) {
+        if (level < 0 || level > 9) {
+            throw new IllegalArgumentException("Compression level must be between 0 and 9 but was " + level);
+        }
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count must be positive but was " + threadCount);
+        }
+        if (blockSize < DICTIONARY_SIZE) {
+            throw new IllegalArgumentException("Block size must be at least " + DICTIONARY_SIZE + " bytes but was " + blockSize);
+        }
+
+        this.out = out;
+        this.level = level;
+        this.executor = executor;
+        this.blockSize = blockSize;
+        this.maxPendingBlocks = threadCount * 2;
+        this.block = new byte[blockSize];
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        block[blockLength++] = (byte) b;
+        if (blockLength == blockSize) {
+            submitBlock(false);
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            final int toCopy = Math.min(remaining, blockSize - blockLength);
+            System.arraycopy(b, offset, block, blockLength, toCopy);
+            blockLength += toCopy;
+            offset += toCopy;
+            remaining -= toCopy;
+
+            if (blockLength == blockSize) {
+                submitBlock(false);
+            }
+        }
+    }
+
+    /**
+     * Writes all blocks that have been compressed so far. Data that has not yet filled a block is not compressed, as doing so would
+     * reduce the compression ratio; it is written when the block is full or the stream is closed.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peek().isDone()) {
+            writeBlock(pendingBlocks.poll());
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            submitBlock(true);
+            while (!pendingBlocks.isEmpty()) {
+                writeBlock(pendingBlocks.poll());
+            }
+
+            writeInt((int) crc.getValue());
+            writeInt((int) totalLength);
+            out.flush();
+        } finally {
+            for (final Future<byte[]> pendingBlock : pendingBlocks) {
+                pendingBlock.cancel(true);
+            }
+            pendingBlocks.clear();
+            out.close();
+        }
+    }
+
+    private void submitBlock(final boolean last) throws IOException {
+        final byte[] data = block;
+        final int length = blockLength;
+        final byte[] dictionary = previousBlock;
+        final int dictionaryLength = Math.min(previousBlockLength, DICTIONARY_SIZE);
+        final int dictionaryOffset = previousBlockLength - dictionaryLength;
+
+        crc.update(data, 0, length);
+        totalLength += length;
+
+        pendingBlocks.add(executor.submit(() -> compress(data, length, dictionary, dictionaryOffset, dictionaryLength, last)));
+
+        // The submitted block and the previous one are referenced by the compression tasks, so a new array must be used for the next block
+        previousBlock = data;
+        previousBlockLength = length;
+        block = last ? null : new byte[blockSize];
+        blockLength = 0;
+
+        while (pendingBlocks.size() >= maxPendingBlocks) {
+            writeBlock(pendingBlocks.poll());
+        }
+    }
+
+    private byte[] compress(final byte[] data, final int length, final byte[] dictionary, final int dictionaryOffset, final int dictionaryLength,
+                            final boolean last) {
+        final Deflater deflater = new Deflater(level, true);
+        try {
+            if (dictionary != null && dictionaryLength > 0) {
+                deflater.setDictionary(dictionary, dictionaryOffset, dictionaryLength);
+            }
+            deflater.setInput(data, 0, length);
+
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 2 + 64);
+            final byte[] buffer = new byte[Math.max(length / 2, 8192)];
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    final int compressedLength = deflater.deflate(buffer);
+                    compressed.write(buffer, 0, compressedLength);
+                }
+            } else {
+                // A sync flush ends the block on a byte boundary without marking it as the final block of the stream
+                int compressedLength;
+                do {
+                    compressedLength = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    compressed.write(buffer, 0, compressedLength);
+                } while (compressedLength == buffer.length);
+            }
+
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void writeBlock(final Future<byte[]> pendingBlock) throws IOException {
+        final byte[] compressed;
+        try {
+            compressed = pendingBlock.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for block to be compressed");
+        } catch (final ExecutionException e) {
+            throw new IOException("Failed to compress block", e.getCause());
+        }
+
+        if (!headerWritten) {
+            out.write(GZIP_HEADER);
+            headerWritten = true;
+        }
+        out.write(compressed);
+    }
+
+    private void writeInt(final int value) throws IOException {
+        // GZIP trailer values are little-endian
+        out.write(value & 0xff);
+        out.write((value >> 8) & 0xff);
+        out.write((value >> 16) & 0xff);
+        out.write((value >> 24) & 0xff);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+}
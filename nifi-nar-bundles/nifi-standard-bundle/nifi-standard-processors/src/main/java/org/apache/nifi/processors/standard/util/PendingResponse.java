@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.nifi.processors.standard.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * The response to a request that is created before its response is processed. An asynchronous request is sent as soon as it is created,
+ * and its response is completed by another thread. A synchronous request is not sent until its response is requested. A request whose
+ * response is never requested can be cancelled, in which case an asynchronous response that arrives afterwards is closed.
+ *
+ * Instances are not thread-safe: the response is expected to be requested, and the request cancelled, by the thread that created it.
+ *
+ * @param <T> the type of the response
+ */
+public class PendingResponse<T extends Closeable> {
+
+    private final CompletableFuture<T> responseFuture;
+    private final Callable<T> synchronousRequest;
+    private final Runnable cancellation;
+    private boolean consumed = false;
+
+    private PendingResponse(final CompletableFuture<T> responseFuture, final Callable<T> synchronousRequest, final Runnable cancellation) {
+        this.responseFuture = responseFuture;
+        this.synchronousRequest = synchronousRequest;
+        this.cancellation = cancellation;
+    }
+
+    /**
+     * @param sender sends the request, and arranges for the given future to be completed with its response or with the reason that it failed
+     * @param cancellation cancels the request
+     * @param <T> the type of the response
+     * @return the pending response of the request, which has been sent
+     */
+    public static <T extends Closeable> PendingResponse<T> sendAsync(final Consumer<CompletableFuture<T>> sender, final Runnable cancellation) {
+        final CompletableFuture<T> responseFuture = new CompletableFuture<>();
+        sender.accept(responseFuture);
+        return new PendingResponse<>(responseFuture, null, cancellation);
+    }
+
+    /**
+     * @param request sends the request and waits for its response
+     * @param cancellation cancels the request
+     * @param <T> the type of the response
+     * @return the pending response of the request, which is not sent until its response is requested
+     */
+    public static <T extends Closeable> PendingResponse<T> sendWhenRequested(final Callable<T> request, final Runnable cancellation) {
+        return new PendingResponse<>(null, request, cancellation);
+    }
+
+    public boolean isAsync() {
+        return responseFuture != null;
+    }
+
+    /**
+     * @return the response, waiting for it to arrive if the request is asynchronous, or sending the request if it is synchronous
+     * @throws Exception the reason that the request failed
+     */
+    public T getResponse() throws Exception {
+        consumed = true;
+        if (responseFuture == null) {
+            return synchronousRequest.call();
+        }
+
+        try {
+            return responseFuture.get();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    /**
+     * Cancels the request if its response has not been requested, closing the response if one has already arrived or arrives later
+     *
+     * @return <code>true</code> if the request was cancelled, <code>false</code> if its response had already been requested
+     */
+    public boolean cancel() {
+        if (consumed) {
+            return false;
+        }
+
+        consumed = true;
+        cancellation.run();
+        if (responseFuture != null) {
+            responseFuture.thenAccept(PendingResponse::closeQuietly);
+        }
+
+        return true;
+    }
+
+    private static void closeQuietly(final Closeable response) {
+        try {
+            response.close();
+        } catch (final IOException | RuntimeException ignored) {
+            // The response was not going to be used
+        }
+    }
+}
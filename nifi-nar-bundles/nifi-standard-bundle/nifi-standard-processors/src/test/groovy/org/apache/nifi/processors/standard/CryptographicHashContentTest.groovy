@@ -286,4 +286,39 @@ class CryptographicHashContentTest extends GroovyTestCase {
             flowFile.assertAttributeNotExists(hashAttribute)
         }
     }
+
+    @Test
+    void testShouldCalculateAdditionalHashesOfContent() {
+        // Arrange
+        final String LONG_CONTENT = "apachenifi " * 8192
+        def algorithms = [HashAlgorithm.SHA256, HashAlgorithm.MD5, HashAlgorithm.SHA512, HashAlgorithm.BLAKE2_256]
+
+        final TestRunner runner = TestRunners.newTestRunner(new CryptographicHashContent())
+        runner.setProperty(CryptographicHashContent.HASH_ALGORITHM, HashAlgorithm.SHA256.name)
+        runner.setProperty(CryptographicHashContent.ADDITIONAL_HASH_ALGORITHMS, "MD5, SHA-512,blake2-256")
+        runner.enqueue(LONG_CONTENT.getBytes(StandardCharsets.UTF_8))
+
+        // Act
+        runner.run(1)
+
+        // Assert
+        runner.assertAllFlowFilesTransferred(CryptographicHashContent.REL_SUCCESS, 1)
+        MockFlowFile flowFile = runner.getFlowFilesForRelationship(CryptographicHashContent.REL_SUCCESS).first()
+        algorithms.each { HashAlgorithm algorithm ->
+            final String EXPECTED_CONTENT_HASH = HashService.hashValueStreaming(algorithm, new ByteArrayInputStream(LONG_CONTENT.bytes))
+            flowFile.assertAttributeEquals("content_${algorithm.name}", EXPECTED_CONTENT_HASH)
+        }
+    }
+
+    @Test
+    void testShouldValidateAdditionalHashAlgorithms() {
+        // Arrange
+        final TestRunner runner = TestRunners.newTestRunner(new CryptographicHashContent())
+
+        // Act
+        runner.setProperty(CryptographicHashContent.ADDITIONAL_HASH_ALGORITHMS, "MD5,SHA-999")
+
+        // Assert
+        runner.assertNotValid()
+    }
 }
@@ -16,17 +16,25 @@
  */
 package org.apache.nifi.processors.standard;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.util.MockFlowFile;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
+import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertTrue;
 
 public class TestCompressContent {
@@ -347,4 +355,65 @@ public class TestCompressContent {
         flowFile.assertContentEquals(Paths.get("src/test/resources/CompressedData/SampleFile.txt"));
         flowFile.assertAttributeEquals("filename", "SampleFile.txt");
     }
+
+    @Test
+    public void testGzipCompressWithMultipleThreads() throws Exception {
+        // Use enough content that it is divided into several blocks
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.append("Line ").append(i).append(" of the content to compress\n");
+        }
+        final byte[] content = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        final TestRunner runner = TestRunners.newTestRunner(CompressContent.class);
+        runner.setProperty(CompressContent.MODE, CompressContent.MODE_COMPRESS);
+        runner.setProperty(CompressContent.COMPRESSION_FORMAT, CompressContent.COMPRESSION_FORMAT_GZIP);
+        runner.setProperty(CompressContent.COMPRESSION_LEVEL, "6");
+        runner.setProperty(CompressContent.COMPRESSION_THREADS, "4");
+
+        runner.enqueue(content);
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(CompressContent.REL_SUCCESS, 1);
+        final MockFlowFile flowFile = runner.getFlowFilesForRelationship(CompressContent.REL_SUCCESS).get(0);
+        flowFile.assertAttributeEquals(CoreAttributes.MIME_TYPE.key(), "application/gzip");
+        assertTrue(flowFile.getSize() < content.length);
+
+        try (final InputStream in = new GZIPInputStream(new ByteArrayInputStream(runner.getContentAsByteArray(flowFile)))) {
+            assertArrayEquals(content, IOUtils.toByteArray(in));
+        }
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testCompressionPerformance() {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2_000_000; i++) {
+            sb.append("2020-01-15 10:11:12,").append(i % 1000).append(" INFO [Timer-Driven Process Thread-").append(i % 16)
+                .append("] o.a.n.c.StandardProcessorNode Processed FlowFile ").append(i).append('\n');
+        }
+        final byte[] content = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        final String[] formats = {CompressContent.COMPRESSION_FORMAT_GZIP, CompressContent.COMPRESSION_FORMAT_DEFLATE, CompressContent.COMPRESSION_FORMAT_BZIP2,
+            CompressContent.COMPRESSION_FORMAT_XZ_LZMA2, CompressContent.COMPRESSION_FORMAT_SNAPPY_FRAMED, CompressContent.COMPRESSION_FORMAT_LZ4_FRAMED};
+        for (final String format : formats) {
+            final int[] threadCounts = format.equals(CompressContent.COMPRESSION_FORMAT_GZIP) ? new int[] {1, 2, 4, 8} : new int[] {1};
+            for (final int threads : threadCounts) {
+                final TestRunner runner = TestRunners.newTestRunner(CompressContent.class);
+                runner.setProperty(CompressContent.MODE, CompressContent.MODE_COMPRESS);
+                runner.setProperty(CompressContent.COMPRESSION_FORMAT, format);
+                runner.setProperty(CompressContent.COMPRESSION_LEVEL, "6");
+                runner.setProperty(CompressContent.COMPRESSION_THREADS, String.valueOf(threads));
+
+                runner.enqueue(content);
+                final long start = System.nanoTime();
+                runner.run();
+                final long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+                final MockFlowFile flowFile = runner.getFlowFilesForRelationship(CompressContent.REL_SUCCESS).get(0);
+                System.out.println(String.format("%-15s %d thread(s): %,d bytes -> %,d bytes (ratio %.2f) in %,d millis (%.1f MB/s)", format, threads, content.length,
+                    flowFile.getSize(), (double) content.length / flowFile.getSize(), millis, content.length / 1024D / 1024D / (millis / 1000D)));
+            }
+        }
+    }
 }
@@ -20,16 +20,21 @@ import static org.junit.Assert.assertEquals;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.util.MockFlowFile;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
 
+import org.junit.Ignore;
 import org.junit.Test;
 
 public class TestIdentifyMimeType {
@@ -322,4 +327,51 @@ public class TestIdentifyMimeType {
 
     }
 
+    @Test
+    public void testContentLargerThanDetectionPrefix() {
+        final TestRunner runner = TestRunners.newTestRunner(new IdentifyMimeType());
+        runner.setProperty(IdentifyMimeType.USE_FILENAME_IN_DETECTION, "false");
+
+        final byte[] pdf = new byte[256 * 1024];
+        final byte[] header = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, pdf, 0, header.length);
+        runner.enqueue(pdf);
+
+        // Binary content that is not recognized from its prefix is examined in full
+        runner.enqueue(new byte[256 * 1024]);
+        runner.run(2);
+
+        runner.assertAllFlowFilesTransferred(IdentifyMimeType.REL_SUCCESS, 2);
+        final List<MockFlowFile> flowFiles = runner.getFlowFilesForRelationship(IdentifyMimeType.REL_SUCCESS);
+        flowFiles.get(0).assertAttributeEquals("mime.type", "application/pdf");
+        flowFiles.get(1).assertAttributeEquals("mime.type", "application/octet-stream");
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testPerformanceWithSmallFiles() throws IOException {
+        final File dir = new File("src/test/resources/TestIdentifyMimeType");
+        final File[] files = dir.listFiles((ldir, name) -> name != null && !name.startsWith("."));
+        final List<byte[]> contents = new ArrayList<>();
+        for (final File file : files) {
+            if (!file.isDirectory()) {
+                contents.add(Files.readAllBytes(file.toPath()));
+            }
+        }
+
+        final int flowFileCount = 100_000;
+        for (int iteration = 0; iteration < 5; iteration++) {
+            final TestRunner runner = TestRunners.newTestRunner(new IdentifyMimeType());
+            for (int i = 0; i < flowFileCount; i++) {
+                runner.enqueue(contents.get(i % contents.size()));
+            }
+
+            final long start = System.nanoTime();
+            runner.run(flowFileCount);
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            runner.assertTransferCount(IdentifyMimeType.REL_SUCCESS, flowFileCount);
+            System.out.println("Identified " + flowFileCount + " FlowFiles in " + millis + " millis");
+        }
+    }
 }
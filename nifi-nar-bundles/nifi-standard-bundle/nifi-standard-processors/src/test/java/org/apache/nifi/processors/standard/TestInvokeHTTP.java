@@ -27,8 +27,10 @@ import java.io.PrintWriter;
 import java.lang.reflect.Field;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.SystemUtils;
@@ -45,6 +47,7 @@ import org.junit.Assert;
 import org.junit.Assume;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -425,6 +428,114 @@ public class TestInvokeHTTP extends TestInvokeHttpCommon {
         response.assertAttributeEquals(InvokeHTTP.STATUS_MESSAGE, "OK");
     }
 
+    @Test
+    public void testMaxInFlightRequests() throws Exception {
+        addHandler(new GetOrHeadHandler());
+
+        runner.setProperty(InvokeHTTP.PROP_URL, url + "/status/${status}");
+        runner.setProperty(InvokeHTTP.PROP_MAX_IN_FLIGHT_REQUESTS, "4");
+
+        for (int i = 0; i < 6; i++) {
+            runner.enqueue("Hello", Collections.singletonMap("status", i == 2 ? "404" : "200"));
+        }
+
+        // Each trigger should process up to 4 FlowFiles, routing each according to its own response
+        runner.run();
+        runner.assertTransferCount(InvokeHTTP.REL_SUCCESS_REQ, 3);
+        runner.assertTransferCount(InvokeHTTP.REL_RESPONSE, 3);
+        runner.assertTransferCount(InvokeHTTP.REL_NO_RETRY, 1);
+        runner.assertQueueNotEmpty();
+
+        runner.run();
+        runner.assertTransferCount(InvokeHTTP.REL_SUCCESS_REQ, 5);
+        runner.assertTransferCount(InvokeHTTP.REL_RESPONSE, 5);
+        runner.assertTransferCount(InvokeHTTP.REL_NO_RETRY, 1);
+        runner.assertTransferCount(InvokeHTTP.REL_FAILURE, 0);
+        runner.assertQueueEmpty();
+
+        for (final MockFlowFile response : runner.getFlowFilesForRelationship(InvokeHTTP.REL_RESPONSE)) {
+            response.assertContentEquals("/status/200");
+            response.assertAttributeEquals(InvokeHTTP.STATUS_CODE, "200");
+        }
+
+        // The requests have no body, so none of them had to wait for the previous response to be processed
+        assertEquals(Long.valueOf(6), runner.getCounterValue(InvokeHTTP.COUNTER_PIPELINED_REQUESTS));
+        assertEquals(Long.valueOf(0), runner.getCounterValue(InvokeHTTP.COUNTER_SEQUENTIAL_REQUESTS));
+        assertEquals(Long.valueOf(6), runner.getCounterValue(InvokeHTTP.COUNTER_COMPLETED_REQUESTS));
+    }
+
+    @Test
+    public void testMaxInFlightRequestsWithBody() throws Exception {
+        addHandler(new DelayedHandler(0));
+
+        runner.setProperty(InvokeHTTP.PROP_METHOD, "POST");
+        runner.setProperty(InvokeHTTP.PROP_URL, url);
+        runner.setProperty(InvokeHTTP.PROP_MAX_IN_FLIGHT_REQUESTS, "4");
+
+        for (int i = 0; i < 3; i++) {
+            runner.enqueue("Hello");
+        }
+
+        // Requests that send FlowFile content are sent one at a time, when their turn comes
+        runner.run();
+        runner.assertTransferCount(InvokeHTTP.REL_SUCCESS_REQ, 3);
+        runner.assertTransferCount(InvokeHTTP.REL_RESPONSE, 3);
+        runner.assertTransferCount(InvokeHTTP.REL_FAILURE, 0);
+        assertEquals(Long.valueOf(0), runner.getCounterValue(InvokeHTTP.COUNTER_PIPELINED_REQUESTS));
+        assertEquals(Long.valueOf(3), runner.getCounterValue(InvokeHTTP.COUNTER_SEQUENTIAL_REQUESTS));
+        assertEquals(Long.valueOf(3), runner.getCounterValue(InvokeHTTP.COUNTER_COMPLETED_REQUESTS));
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testPerformanceWithLatency() throws Exception {
+        addHandler(new DelayedHandler(100));
+        runner.setProperty(InvokeHTTP.PROP_URL, url);
+        runner.setProperty(InvokeHTTP.PROP_MAX_IDLE_CONNECTIONS, "32");
+
+        final int flowFileCount = 200;
+        for (final int maxInFlightRequests : new int[] {1, 8, 32}) {
+            runner.clearTransferState();
+            runner.setProperty(InvokeHTTP.PROP_MAX_IN_FLIGHT_REQUESTS, String.valueOf(maxInFlightRequests));
+            for (int i = 0; i < flowFileCount; i++) {
+                runner.enqueue("Hello");
+            }
+
+            // Each iteration takes up to the maximum number of in-flight requests from the queue
+            final int iterations = (flowFileCount + maxInFlightRequests - 1) / maxInFlightRequests;
+            final long start = System.nanoTime();
+            runner.run(iterations);
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            runner.assertTransferCount(InvokeHTTP.REL_SUCCESS_REQ, flowFileCount);
+            System.out.println("Invoked " + flowFileCount + " requests with " + maxInFlightRequests + " in flight in " + millis + " millis ("
+                + (flowFileCount * 1000L / Math.max(1, millis)) + " requests/sec)");
+        }
+    }
+
+    public static class DelayedHandler extends AbstractHandler {
+        private final long delayMillis;
+
+        public DelayedHandler(final long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+            baseRequest.setHandled(true);
+
+            try {
+                Thread.sleep(delayMillis);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            response.setStatus(200);
+            response.setContentType("text/plain");
+            response.setContentLength(0);
+        }
+    }
+
     public static class EchoUserAgentHandler extends AbstractHandler {
 
         @Override
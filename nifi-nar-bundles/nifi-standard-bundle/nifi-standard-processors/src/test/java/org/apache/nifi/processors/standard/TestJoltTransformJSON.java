@@ -16,16 +16,20 @@
  */
 package org.apache.nifi.processors.standard;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.processor.Processor;
@@ -34,6 +38,7 @@ import org.apache.nifi.util.MockFlowFile;
 import org.apache.nifi.util.StringUtils;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
+import org.junit.Ignore;
 import org.junit.Test;
 
 import com.bazaarvoice.jolt.Diffy;
@@ -447,4 +452,116 @@ public class TestJoltTransformJSON {
         runner.assertNotValid();
     }
 
+    @Test
+    public void testTransformEachElement() throws IOException {
+        final String input = new String(Files.readAllBytes(JSON_INPUT));
+        final StringBuilder array = new StringBuilder("[");
+        final int elementCount = 25;
+        for (int i = 0; i < elementCount; i++) {
+            array.append(i == 0 ? "" : ",").append(input);
+        }
+        array.append("]");
+
+        final Object compareJson = JsonUtils.jsonToObject(Files.newInputStream(Paths.get("src/test/resources/TestJoltTransformJson/shiftrOutput.json")));
+        for (final String threads : new String[] {"1", "4"}) {
+            final TestRunner runner = TestRunners.newTestRunner(new JoltTransformJSON());
+            final String spec = new String(Files.readAllBytes(Paths.get("src/test/resources/TestJoltTransformJson/shiftrSpec.json")));
+            runner.setProperty(JoltTransformJSON.JOLT_SPEC, spec);
+            runner.setProperty(JoltTransformJSON.JOLT_TRANSFORM, JoltTransformJSON.SHIFTR);
+            runner.setProperty(JoltTransformJSON.TRANSFORM_EACH_ELEMENT, "true");
+            runner.setProperty(JoltTransformJSON.TRANSFORM_THREADS, threads);
+            runner.enqueue(array.toString());
+            runner.run();
+
+            runner.assertAllFlowFilesTransferred(JoltTransformJSON.REL_SUCCESS);
+            final MockFlowFile transformed = runner.getFlowFilesForRelationship(JoltTransformJSON.REL_SUCCESS).get(0);
+            transformed.assertAttributeEquals(CoreAttributes.MIME_TYPE.key(), "application/json");
+            final List<?> transformedJson = (List<?>) JsonUtils.jsonToObject(new ByteArrayInputStream(transformed.toByteArray()));
+            assertEquals(elementCount, transformedJson.size());
+            for (final Object transformedElement : transformedJson) {
+                assertTrue(DIFFY.diff(compareJson, transformedElement).isEmpty());
+            }
+        }
+    }
+
+    @Test
+    public void testTransformEachElementOrder() throws IOException {
+        final TestRunner runner = TestRunners.newTestRunner(new JoltTransformJSON());
+        runner.setProperty(JoltTransformJSON.JOLT_SPEC, "{\"id\": \"value\"}");
+        runner.setProperty(JoltTransformJSON.JOLT_TRANSFORM, JoltTransformJSON.SHIFTR);
+        runner.setProperty(JoltTransformJSON.TRANSFORM_EACH_ELEMENT, "true");
+        runner.setProperty(JoltTransformJSON.TRANSFORM_THREADS, "3");
+
+        final StringBuilder array = new StringBuilder("[");
+        final StringBuilder expected = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            array.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append("}");
+            expected.append(i == 0 ? "" : ",").append("{\"value\":").append(i).append("}");
+        }
+        runner.enqueue(array.append("]").toString());
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(JoltTransformJSON.REL_SUCCESS);
+        runner.getFlowFilesForRelationship(JoltTransformJSON.REL_SUCCESS).get(0).assertContentEquals(expected.append("]").toString());
+    }
+
+    @Test
+    public void testTransformEachElementOfNonArray() throws IOException {
+        final TestRunner runner = TestRunners.newTestRunner(new JoltTransformJSON());
+        final String spec = new String(Files.readAllBytes(Paths.get("src/test/resources/TestJoltTransformJson/shiftrSpec.json")));
+        runner.setProperty(JoltTransformJSON.JOLT_SPEC, spec);
+        runner.setProperty(JoltTransformJSON.JOLT_TRANSFORM, JoltTransformJSON.SHIFTR);
+        runner.setProperty(JoltTransformJSON.TRANSFORM_EACH_ELEMENT, "true");
+        runner.enqueue(JSON_INPUT);
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(JoltTransformJSON.REL_SUCCESS);
+        final MockFlowFile transformed = runner.getFlowFilesForRelationship(JoltTransformJSON.REL_SUCCESS).get(0);
+        Object transformedJson = JsonUtils.jsonToObject(new ByteArrayInputStream(transformed.toByteArray()));
+        Object compareJson = JsonUtils.jsonToObject(Files.newInputStream(Paths.get("src/test/resources/TestJoltTransformJson/shiftrOutput.json")));
+        assertTrue(DIFFY.diff(compareJson, transformedJson).isEmpty());
+    }
+
+    @Test
+    public void testTransformEachElementOfInvalidArray() throws IOException {
+        final TestRunner runner = TestRunners.newTestRunner(new JoltTransformJSON());
+        runner.setProperty(JoltTransformJSON.JOLT_SPEC, "{\"id\": \"value\"}");
+        runner.setProperty(JoltTransformJSON.JOLT_TRANSFORM, JoltTransformJSON.SHIFTR);
+        runner.setProperty(JoltTransformJSON.TRANSFORM_EACH_ELEMENT, "true");
+        runner.enqueue("[{\"id\": 1}, {\"id\": ");
+        runner.run();
+
+        runner.assertAllFlowFilesTransferred(JoltTransformJSON.REL_FAILURE);
+        runner.getFlowFilesForRelationship(JoltTransformJSON.REL_FAILURE).get(0).assertContentEquals("[{\"id\": 1}, {\"id\": ");
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testTransformEachElementPerformance() throws IOException {
+        final String input = new String(Files.readAllBytes(JSON_INPUT));
+        final StringBuilder array = new StringBuilder("[");
+        final int elementCount = 200_000;
+        for (int i = 0; i < elementCount; i++) {
+            array.append(i == 0 ? "" : ",").append(input);
+        }
+        final byte[] content = array.append("]").toString().getBytes(StandardCharsets.UTF_8);
+        final String spec = new String(Files.readAllBytes(Paths.get("src/test/resources/TestJoltTransformJson/shiftrSpec.json")));
+
+        for (final String threads : new String[] {"1", "2", "4"}) {
+            final TestRunner runner = TestRunners.newTestRunner(new JoltTransformJSON());
+            runner.setProperty(JoltTransformJSON.JOLT_SPEC, spec);
+            runner.setProperty(JoltTransformJSON.JOLT_TRANSFORM, JoltTransformJSON.SHIFTR);
+            runner.setProperty(JoltTransformJSON.TRANSFORM_EACH_ELEMENT, "true");
+            runner.setProperty(JoltTransformJSON.TRANSFORM_THREADS, threads);
+            runner.enqueue(content);
+
+            final long start = System.nanoTime();
+            runner.run();
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            runner.assertAllFlowFilesTransferred(JoltTransformJSON.REL_SUCCESS);
+            System.out.println("Transformed " + elementCount + " elements (" + content.length + " bytes) with " + threads + " threads in " + millis + " millis");
+        }
+    }
+
 }
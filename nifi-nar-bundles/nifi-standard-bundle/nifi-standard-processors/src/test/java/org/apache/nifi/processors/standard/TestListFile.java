@@ -50,10 +50,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -691,6 +693,117 @@ public class TestListFile {
         assertEquals(1, successFiles2.size());
     }
 
+    @Test
+    public void testRecurseWithMultipleListingThreads() throws Exception {
+        final long now = getTestModifiedTime();
+
+        final Set<String> expectedFilenames = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            final File subdir = new File(TESTDIR + "/subdir" + i + "/nested");
+            assertTrue(subdir.mkdirs());
+
+            final File topLevelFile = new File(TESTDIR + "/subdir" + i + "/file" + i + ".txt");
+            assertTrue(topLevelFile.createNewFile());
+            assertTrue(topLevelFile.setLastModified(now));
+            expectedFilenames.add(topLevelFile.getName());
+
+            final File nestedFile = new File(subdir, "nested" + i + ".txt");
+            assertTrue(nestedFile.createNewFile());
+            assertTrue(nestedFile.setLastModified(now));
+            expectedFilenames.add(nestedFile.getName());
+        }
+
+        runner.setProperty(ListFile.DIRECTORY, testDir.getAbsolutePath());
+        runner.setProperty(ListFile.RECURSE, "true");
+        runner.setProperty(ListFile.MAX_LISTING_THREADS, "4");
+        runNext();
+
+        runner.assertAllFlowFilesTransferred(ListFile.REL_SUCCESS, 10);
+        final Set<String> listedFilenames = new HashSet<>();
+        for (final MockFlowFile mff : runner.getFlowFilesForRelationship(ListFile.REL_SUCCESS)) {
+            final String filename = mff.getAttribute(CoreAttributes.FILENAME.key());
+            listedFilenames.add(filename);
+
+            final String expectedPath = filename.startsWith("nested")
+                ? "subdir" + filename.charAt(6) + File.separator + "nested" + File.separator
+                : "subdir" + filename.charAt(4) + File.separator;
+            mff.assertAttributeEquals(CoreAttributes.PATH.key(), expectedPath);
+        }
+        assertEquals(expectedFilenames, listedFilenames);
+
+        // Nothing has changed, so nothing new should be listed
+        runNext();
+        runner.assertTransferCount(ListFile.REL_SUCCESS, 0);
+    }
+
+    @Test
+    public void testMultipleListingThreadsListEveryLinkToSameDirectory() throws Exception {
+        Assume.assumeTrue("Test only runs on *nix", !SystemUtils.IS_OS_WINDOWS);
+        final long now = getTestModifiedTime();
+
+        final File realDir = new File(TESTDIR + "/real");
+        assertTrue(realDir.mkdirs());
+        final File file = new File(realDir, "file.txt");
+        assertTrue(file.createNewFile());
+        assertTrue(file.setLastModified(now));
+
+        Files.createSymbolicLink(Paths.get(TESTDIR, "link1"), realDir.getAbsoluteFile().toPath());
+        Files.createSymbolicLink(Paths.get(TESTDIR, "link2"), realDir.getAbsoluteFile().toPath());
+
+        runner.setProperty(ListFile.DIRECTORY, testDir.getAbsolutePath());
+        runner.setProperty(ListFile.RECURSE, "true");
+        runner.setProperty(ListFile.MAX_LISTING_THREADS, "4");
+        runNext();
+
+        // As with a single listing thread, the file is listed once for every path that leads to it
+        runner.assertAllFlowFilesTransferred(ListFile.REL_SUCCESS, 3);
+        final Set<String> listedPaths = runner.getFlowFilesForRelationship(ListFile.REL_SUCCESS).stream()
+            .map(mff -> mff.getAttribute(CoreAttributes.PATH.key()))
+            .collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList("real" + File.separator, "link1" + File.separator, "link2" + File.separator)), listedPaths);
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing, as it creates a large directory tree on disk in order to compare the listing time for different numbers of listing threads")
+    public void testPerformanceOfParallelListing() throws Exception {
+        final int width = 100;
+        final int depth = 3;
+        final int filesPerDirectory = 10;
+
+        createDirectoryTree(testDir, width, depth, filesPerDirectory);
+
+        for (final int threads : new int[] {1, 2, 4, 8, 16}) {
+            processor = new ListFile();
+            runner = TestRunners.newTestRunner(processor);
+            runner.setProperty(ListFile.DIRECTORY, testDir.getAbsolutePath());
+            runner.setProperty(ListFile.RECURSE, "true");
+            runner.setProperty(ListFile.MAX_LISTING_THREADS, String.valueOf(threads));
+
+            final long start = System.nanoTime();
+            runner.run();
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            System.out.println("Listed " + runner.getFlowFilesForRelationship(ListFile.REL_SUCCESS).size() + " files using " + threads + " threads in " + millis + " millis");
+        }
+    }
+
+    private void createDirectoryTree(final File parent, final int width, final int depth, final int filesPerDirectory) throws IOException {
+        for (int i = 0; i < filesPerDirectory; i++) {
+            assertTrue(new File(parent, "file-" + i).createNewFile());
+        }
+
+        if (depth == 0) {
+            return;
+        }
+
+        final int subdirectories = depth == 1 ? width : Math.max(2, width / 10);
+        for (int i = 0; i < subdirectories; i++) {
+            final File subdir = new File(parent, "dir-" + i);
+            assertTrue(subdir.mkdirs());
+            createDirectoryTree(subdir, width, depth - 1, filesPerDirectory);
+        }
+    }
+
     @Test
     public void testReadable() throws Exception {
         final long now = getTestModifiedTime();
@@ -527,6 +527,29 @@ public class TestMergeRecord {
         runner.assertTransferCount(MergeRecord.REL_FAILURE, 1);
     }
 
+    @Test
+    public void testExpiredBinsCompletedInEveryGroup() throws InterruptedException {
+        runner.setProperty(MergeRecord.MIN_RECORDS, "5");
+        runner.setProperty(MergeRecord.MAX_BIN_AGE, "1 millis");
+        runner.setProperty(MergeRecord.CORRELATION_ATTRIBUTE_NAME, "correlationId");
+
+        final Map<String, String> attrs = new HashMap<>();
+        for (int i = 0; i < 3; i++) {
+            attrs.put("correlationId", String.valueOf(i));
+            runner.enqueue("Name, Age\nJohn, 3" + i, attrs);
+        }
+
+        runner.run(1, false);
+
+        Thread.sleep(50L);
+        runner.run(1, true, false);
+
+        runner.assertTransferCount(MergeRecord.REL_MERGED, 3);
+        runner.assertTransferCount(MergeRecord.REL_ORIGINAL, 3);
+        runner.assertTransferCount(MergeRecord.REL_FAILURE, 0);
+        assertEquals(0, ((MergeRecord) runner.getProcessor()).getBinCount());
+    }
+
     @Test
     public void testMergeWithMinRecordsFromVariableRegistry() {
         runner.setVariable("min_records", "3");
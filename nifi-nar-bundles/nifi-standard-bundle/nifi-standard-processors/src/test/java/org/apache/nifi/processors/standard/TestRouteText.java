@@ -27,12 +27,14 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.nifi.processor.Relationship;
 import org.apache.nifi.util.MockFlowFile;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
+import org.junit.Ignore;
 import org.junit.Test;
 
 public class TestRouteText {
@@ -212,6 +214,82 @@ public class TestRouteText {
         runner.getFlowFilesForRelationship("original").get(0).assertContentEquals(originalText);
     }
 
+    @Test
+    public void testContainsWithOverlappingAndDuplicateValues() throws IOException {
+        final TestRunner runner = TestRunners.newTestRunner(new RouteText());
+        runner.setProperty(RouteText.MATCH_STRATEGY, RouteText.CONTAINS);
+        runner.setProperty(RouteText.IGNORE_CASE, "true");
+        runner.setProperty("he", "he");
+        runner.setProperty("she", "SHE");
+        runner.setProperty("hers", "hers");
+        runner.setProperty("his", "his");
+        runner.setProperty("also-his", "his");
+
+        final String originalText = "Ushers\nthis\nnone";
+        runner.enqueue(originalText.getBytes("UTF-8"));
+        runner.run();
+
+        runner.assertTransferCount("he", 1);
+        runner.assertTransferCount("she", 1);
+        runner.assertTransferCount("hers", 1);
+        runner.assertTransferCount("his", 1);
+        runner.assertTransferCount("also-his", 1);
+        runner.assertTransferCount("unmatched", 1);
+        runner.assertTransferCount("original", 1);
+
+        runner.getFlowFilesForRelationship("he").get(0).assertContentEquals("Ushers\n");
+        runner.getFlowFilesForRelationship("she").get(0).assertContentEquals("Ushers\n");
+        runner.getFlowFilesForRelationship("hers").get(0).assertContentEquals("Ushers\n");
+        runner.getFlowFilesForRelationship("his").get(0).assertContentEquals("this\n");
+        runner.getFlowFilesForRelationship("also-his").get(0).assertContentEquals("this\n");
+        runner.getFlowFilesForRelationship("unmatched").get(0).assertContentEquals("none");
+    }
+
+    @Test
+    public void testContainsAllWithMultipleValues() throws IOException {
+        final TestRunner runner = TestRunners.newTestRunner(new RouteText());
+        runner.setProperty(RouteText.MATCH_STRATEGY, RouteText.CONTAINS);
+        runner.setProperty(RouteText.ROUTE_STRATEGY, RouteText.ROUTE_TO_MATCHED_WHEN_ALL_PROPERTIES_MATCH);
+        runner.setProperty("a", "start");
+        runner.setProperty("b", "end");
+        runner.setProperty("c", "middle");
+
+        runner.enqueue("start middle end\nstart end\n".getBytes("UTF-8"));
+        runner.run();
+
+        runner.assertTransferCount("matched", 1);
+        runner.assertTransferCount("unmatched", 1);
+        runner.assertTransferCount("original", 1);
+        runner.getFlowFilesForRelationship("matched").get(0).assertContentEquals("start middle end\n");
+        runner.getFlowFilesForRelationship("unmatched").get(0).assertContentEquals("start end\n");
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testContainsPerformanceWithManyValues() throws IOException {
+        final TestRunner runner = TestRunners.newTestRunner(new RouteText());
+        runner.setProperty(RouteText.MATCH_STRATEGY, RouteText.CONTAINS);
+        for (int i = 0; i < 2000; i++) {
+            runner.setProperty("term-" + i, "term-" + i + "-value");
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            sb.append("Line ").append(i).append(" of some log output that does not match any of the terms\n");
+        }
+        final byte[] content = sb.toString().getBytes("UTF-8");
+
+        for (int i = 0; i < 5; i++) {
+            runner.clearTransferState();
+            runner.enqueue(content);
+
+            final long start = System.nanoTime();
+            runner.run();
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            System.out.println("Routed " + content.length + " bytes in " + millis + " millis");
+        }
+    }
+
     @Test
     public void testGroupSameRelationship() throws IOException {
         final TestRunner runner = TestRunners.newTestRunner(new RouteText());
@@ -28,6 +28,8 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.apache.nifi.flowfile.FlowFile;
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.processor.ProcessSession;
@@ -37,6 +39,7 @@ import org.apache.nifi.util.MockFlowFile;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
 import org.junit.Assert;
+import org.junit.Ignore;
 import org.junit.Test;
 
 public class TestSplitJson {
@@ -254,4 +257,85 @@ public class TestSplitJson {
         testRunner.run();
         testRunner.assertTransferCount(SplitJson.REL_FAILURE, 1);
     }
+
+    @Test
+    public void testSplit_streamedPathMatchesDocumentEvaluation() throws Exception {
+        final String json = "{\"skip\": [1, {\"a\": [2]}], \"a\": {\"b\": [[0], [{\"c\": [1, 2]}, \"text\", 3.5, null, true]]}, \"after\": {\"b\": [4]}}";
+
+        for (final String path : new String[] {"$.a.b[1]", "$.a.b[1][*]", "$['a']['b'][1]"}) {
+            final TestRunner testRunner = TestRunners.newTestRunner(new SplitJson());
+            testRunner.setProperty(SplitJson.ARRAY_JSON_PATH_EXPRESSION, path);
+
+            testRunner.enqueue(json);
+            testRunner.run();
+
+            testRunner.assertTransferCount(SplitJson.REL_ORIGINAL, 1);
+            testRunner.getFlowFilesForRelationship(SplitJson.REL_ORIGINAL).get(0).assertAttributeEquals(FRAGMENT_COUNT.key(), "5");
+            testRunner.assertTransferCount(SplitJson.REL_SPLIT, 5);
+
+            final List<MockFlowFile> splits = testRunner.getFlowFilesForRelationship(SplitJson.REL_SPLIT);
+            final String[] expectedContents = {"{\"c\":[1,2]}", "text", "3.5", "", "true"};
+            for (int i = 0; i < expectedContents.length; i++) {
+                splits.get(i).assertContentEquals(expectedContents[i]);
+                splits.get(i).assertAttributeEquals(FRAGMENT_INDEX.key(), String.valueOf(i));
+                splits.get(i).assertAttributeEquals(FRAGMENT_COUNT.key(), "5");
+            }
+        }
+    }
+
+    @Test
+    public void testSplit_streamedPathNotArray() throws Exception {
+        final TestRunner testRunner = TestRunners.newTestRunner(new SplitJson());
+        testRunner.setProperty(SplitJson.ARRAY_JSON_PATH_EXPRESSION, "$.a[5]");
+
+        testRunner.enqueue("{\"a\": [[1], [2]]}");
+        testRunner.run();
+
+        testRunner.assertAllFlowFilesTransferred(SplitJson.REL_FAILURE, 1);
+    }
+
+    @Test
+    public void testSplit_streamedPathInvalidJsonAfterArray() throws Exception {
+        final TestRunner testRunner = TestRunners.newTestRunner(new SplitJson());
+        testRunner.setProperty(SplitJson.ARRAY_JSON_PATH_EXPRESSION, "$.a");
+
+        testRunner.enqueue("{\"a\": [1, 2, 3], \"b\": [}");
+        testRunner.run();
+
+        // Splits created while streaming must be removed when the rest of the document turns out to be invalid
+        testRunner.assertAllFlowFilesTransferred(SplitJson.REL_FAILURE, 1);
+        testRunner.getFlowFilesForRelationship(SplitJson.REL_FAILURE).get(0).assertContentEquals("{\"a\": [1, 2, 3], \"b\": [}");
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testPerformanceWithLargeArray() {
+        final int elementCount = 1_000_000;
+        final StringBuilder json = new StringBuilder("{\"header\": {\"id\": 1}, \"records\": [");
+        for (int i = 0; i < elementCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\": ").append(i).append(", \"name\": \"record ").append(i).append("\", \"values\": [1, 2, 3]}");
+        }
+        json.append("]}");
+        final byte[] content = json.toString().getBytes(StandardCharsets.UTF_8);
+
+        // $.records is split while streaming; the filter forces the whole document to be evaluated
+        for (final String path : new String[] {"$.records", "$.records[?(@.id >= 0)]"}) {
+            for (int iteration = 0; iteration < 3; iteration++) {
+                final TestRunner testRunner = TestRunners.newTestRunner(new SplitJson());
+                testRunner.setProperty(SplitJson.ARRAY_JSON_PATH_EXPRESSION, path);
+                testRunner.enqueue(content);
+
+                System.gc();
+                final long start = System.nanoTime();
+                testRunner.run();
+                final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                testRunner.assertTransferCount(SplitJson.REL_SPLIT, elementCount);
+                System.out.println("Split " + content.length + " bytes using " + path + " in " + millis + " millis");
+            }
+        }
+    }
 }
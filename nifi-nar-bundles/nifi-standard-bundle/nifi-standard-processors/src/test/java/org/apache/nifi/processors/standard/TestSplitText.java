@@ -19,15 +19,18 @@ package org.apache.nifi.processors.standard;
 import static org.junit.Assert.assertEquals;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.nifi.flowfile.attributes.CoreAttributes;
 import org.apache.nifi.util.MockFlowFile;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
+import org.junit.Ignore;
 import org.junit.Test;
 
 public class TestSplitText {
@@ -890,4 +893,47 @@ public class TestSplitText {
         splits.get(1).assertContentEquals("\n");
     }
 
+    @Test
+    public void testFragmentCountOnEverySplit() {
+        final TestRunner splitRunner = TestRunners.newTestRunner(new SplitText());
+        splitRunner.setProperty(SplitText.LINE_SPLIT_COUNT, "1");
+        splitRunner.setProperty(SplitText.REMOVE_TRAILING_NEWLINES, "true");
+
+        splitRunner.enqueue("1\n\n2\n3\n");
+
+        splitRunner.run();
+        splitRunner.assertTransferCount(SplitText.REL_SPLITS, 3);
+
+        final List<MockFlowFile> splits = splitRunner.getFlowFilesForRelationship(SplitText.REL_SPLITS);
+        for (int i = 0; i < splits.size(); i++) {
+            splits.get(i).assertAttributeEquals(SplitText.FRAGMENT_INDEX, String.valueOf(i + 1));
+            splits.get(i).assertAttributeEquals(SplitText.FRAGMENT_COUNT, "3");
+        }
+        splits.get(2).assertContentEquals("3");
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testPerformanceWithManySplits() {
+        final int lineCount = 1_000_000;
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < lineCount; i++) {
+            sb.append("Line #").append(i).append('\n');
+        }
+        final byte[] content = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < 3; i++) {
+            final TestRunner splitRunner = TestRunners.newTestRunner(new SplitText());
+            splitRunner.setProperty(SplitText.LINE_SPLIT_COUNT, "1");
+            splitRunner.enqueue(content);
+
+            final long start = System.nanoTime();
+            splitRunner.run();
+            final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            splitRunner.assertTransferCount(SplitText.REL_SPLITS, lineCount);
+            System.out.println("Split " + content.length + " bytes into " + lineCount + " FlowFiles in " + millis + " millis");
+        }
+    }
+
 }
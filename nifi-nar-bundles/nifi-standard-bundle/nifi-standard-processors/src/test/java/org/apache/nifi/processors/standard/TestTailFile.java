@@ -21,6 +21,7 @@ import org.apache.nifi.components.state.StateMap;
 import org.apache.nifi.processors.standard.TailFile.TailFileState;
 import org.apache.nifi.state.MockStateManager;
 import org.apache.nifi.util.MockFlowFile;
+import org.apache.nifi.util.MockProcessContext;
 import org.apache.nifi.util.TestRunner;
 import org.apache.nifi.util.TestRunners;
 import org.junit.After;
@@ -49,6 +50,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -693,6 +695,26 @@ public class TestTailFile {
         runner.getFlowFilesForRelationship(TailFile.REL_SUCCESS).get(0).assertContentEquals("return\r\r\n");
     }
 
+    @Test
+    public void testLagAttribute() throws IOException {
+        runner.run();
+        runner.assertAllFlowFilesTransferred(TailFile.REL_SUCCESS, 0);
+
+        // The partial line has not been consumed yet
+        raf.write("hello\nwor".getBytes());
+        runner.run();
+        runner.assertAllFlowFilesTransferred(TailFile.REL_SUCCESS, 1);
+        runner.getFlowFilesForRelationship(TailFile.REL_SUCCESS).get(0).assertContentEquals("hello\n");
+        runner.getFlowFilesForRelationship(TailFile.REL_SUCCESS).get(0).assertAttributeEquals("tailfile.lag", "3");
+        runner.clearTransferState();
+
+        raf.write("ld\n".getBytes());
+        runner.run();
+        runner.assertAllFlowFilesTransferred(TailFile.REL_SUCCESS, 1);
+        runner.getFlowFilesForRelationship(TailFile.REL_SUCCESS).get(0).assertContentEquals("world\n");
+        runner.getFlowFilesForRelationship(TailFile.REL_SUCCESS).get(0).assertAttributeEquals("tailfile.lag", "0");
+    }
+
     @Test
     public void testRolloverAndUpdateAtSameTime() throws IOException {
         runner.setProperty(TailFile.ROLLING_FILENAME_PATTERN, "log.*");
@@ -1156,6 +1178,31 @@ public class TestTailFile {
         cleanFiles("target/testDir");
     }
 
+    @Test
+    public void testIdleFileDoesNotYieldWhenOtherFileHasData() throws IOException {
+        runner.setProperty(TailFile.BASE_DIRECTORY, "target");
+        runner.setProperty(TailFile.FILENAME, "log(ging)?.txt");
+        runner.setProperty(TailFile.MODE, TailFile.MODE_MULTIFILE);
+
+        initializeFile("target/logging.txt", "");
+        raf.write("hello\n".getBytes());
+
+        runner.run(1);
+        runner.assertAllFlowFilesTransferred(TailFile.REL_SUCCESS, 1);
+        runner.getFlowFilesForRelationship(TailFile.REL_SUCCESS).get(0).assertContentEquals("hello\n");
+        assertFalse(((MockProcessContext) runner.getProcessContext()).isYieldCalled());
+
+        // State for both the active and the idle file should have been stored
+        final Map<String, String> state = runner.getStateManager().getState(Scope.LOCAL).toMap();
+        assertTrue(state.containsValue(file.getPath()));
+        assertTrue(state.containsValue(new File("target/logging.txt").getPath()));
+
+        runner.clearTransferState();
+        runner.run(1);
+        runner.assertAllFlowFilesTransferred(TailFile.REL_SUCCESS, 0);
+        assertTrue(((MockProcessContext) runner.getProcessContext()).isYieldCalled());
+    }
+
     private RandomAccessFile initializeFile(String path, String data) throws IOException {
         File file = new File(path);
         if(file.exists()) {
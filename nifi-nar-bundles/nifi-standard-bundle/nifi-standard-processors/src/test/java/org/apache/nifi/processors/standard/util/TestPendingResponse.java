@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.nifi.processors.standard.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class TestPendingResponse {
+
+    private final AtomicInteger cancellations = new AtomicInteger(0);
+
+    @Test
+    public void testAsyncResponsesCompletedOutOfOrder() throws Exception {
+        final List<CompletableFuture<TestResponse>> futures = new ArrayList<>();
+        final List<PendingResponse<TestResponse>> pendingResponses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            pendingResponses.add(PendingResponse.sendAsync(futures::add, this::cancel));
+        }
+
+        // Every request is sent before any response is requested
+        assertEquals(3, futures.size());
+        assertTrue(pendingResponses.get(0).isAsync());
+
+        final List<TestResponse> responses = new ArrayList<>();
+        for (int i = 2; i >= 0; i--) {
+            final TestResponse response = new TestResponse();
+            responses.add(0, response);
+            futures.get(i).complete(response);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(responses.get(i), pendingResponses.get(i).getResponse());
+            assertFalse(pendingResponses.get(i).cancel());
+        }
+
+        assertEquals(0, cancellations.get());
+        for (final TestResponse response : responses) {
+            assertFalse(response.isClosed());
+        }
+    }
+
+    @Test
+    public void testAsyncFailureThrowsCause() {
+        final IOException failure = new IOException("Connection refused");
+        final PendingResponse<TestResponse> pendingResponse = PendingResponse.sendAsync(future -> future.completeExceptionally(failure), this::cancel);
+
+        try {
+            pendingResponse.getResponse();
+            fail("Expected the failure of the request to be thrown");
+        } catch (final Exception e) {
+            assertSame(failure, e);
+        }
+    }
+
+    @Test
+    public void testCancelledAsyncResponseClosed() {
+        final List<CompletableFuture<TestResponse>> futures = new ArrayList<>();
+        final PendingResponse<TestResponse> received = PendingResponse.sendAsync(futures::add, this::cancel);
+        final PendingResponse<TestResponse> inFlight = PendingResponse.sendAsync(futures::add, this::cancel);
+
+        final TestResponse receivedResponse = new TestResponse();
+        futures.get(0).complete(receivedResponse);
+
+        assertTrue(received.cancel());
+        assertTrue(inFlight.cancel());
+        assertFalse(inFlight.cancel());
+        assertEquals(2, cancellations.get());
+        assertTrue(receivedResponse.isClosed());
+
+        // A response that arrives after the request was cancelled is closed as well
+        final TestResponse lateResponse = new TestResponse();
+        futures.get(1).complete(lateResponse);
+        assertTrue(lateResponse.isClosed());
+    }
+
+    @Test
+    public void testSyncRequestSentWhenResponseRequested() throws Exception {
+        final AtomicInteger requests = new AtomicInteger(0);
+        final TestResponse response = new TestResponse();
+        final PendingResponse<TestResponse> pendingResponse = PendingResponse.sendWhenRequested(() -> {
+            requests.incrementAndGet();
+            return response;
+        }, this::cancel);
+
+        assertFalse(pendingResponse.isAsync());
+        assertEquals(0, requests.get());
+
+        assertSame(response, pendingResponse.getResponse());
+        assertEquals(1, requests.get());
+        assertFalse(pendingResponse.cancel());
+        assertEquals(0, cancellations.get());
+    }
+
+    @Test
+    public void testCancelledSyncRequestNeverSent() {
+        final AtomicInteger requests = new AtomicInteger(0);
+        final PendingResponse<TestResponse> pendingResponse = PendingResponse.sendWhenRequested(() -> {
+            requests.incrementAndGet();
+            return new TestResponse();
+        }, this::cancel);
+
+        assertTrue(pendingResponse.cancel());
+        assertEquals(1, cancellations.get());
+        assertEquals(0, requests.get());
+    }
+
+    private void cancel() {
+        cancellations.incrementAndGet();
+    }
+
+    private static class TestResponse implements Closeable {
+        private boolean closed = false;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+    }
+}
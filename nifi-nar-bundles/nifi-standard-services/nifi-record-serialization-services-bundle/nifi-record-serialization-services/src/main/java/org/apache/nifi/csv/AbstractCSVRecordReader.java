@@ -53,7 +53,7 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             LAZY_DATE_FORMAT = null;
         } else {
             this.dateFormat = dateFormat;
-            LAZY_DATE_FORMAT = () -> DataTypeUtils.getDateFormat(dateFormat);
+            LAZY_DATE_FORMAT = () -> DataTypeUtils.getCachedDateFormat(dateFormat);
         }
 
         if (timeFormat == null || timeFormat.isEmpty()) {
@@ -61,7 +61,7 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             LAZY_TIME_FORMAT = null;
         } else {
             this.timeFormat = timeFormat;
-            LAZY_TIME_FORMAT = () -> DataTypeUtils.getDateFormat(timeFormat);
+            LAZY_TIME_FORMAT = () -> DataTypeUtils.getCachedDateFormat(timeFormat);
         }
 
         if (timestampFormat == null || timestampFormat.isEmpty()) {
@@ -69,7 +69,7 @@ abstract public class AbstractCSVRecordReader implements RecordReader {
             LAZY_TIMESTAMP_FORMAT = null;
         } else {
             this.timestampFormat = timestampFormat;
-            LAZY_TIMESTAMP_FORMAT = () -> DataTypeUtils.getDateFormat(timestampFormat);
+            LAZY_TIMESTAMP_FORMAT = () -> DataTypeUtils.getCachedDateFormat(timestampFormat);
         }
     }
 
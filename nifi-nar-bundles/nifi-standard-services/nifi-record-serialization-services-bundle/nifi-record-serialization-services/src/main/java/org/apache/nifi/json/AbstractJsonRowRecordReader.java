@@ -24,6 +24,7 @@ import org.apache.nifi.serialization.SimpleRecordSchema;
 import org.apache.nifi.serialization.record.DataType;
 import org.apache.nifi.serialization.record.MapRecord;
 import org.apache.nifi.serialization.record.Record;
+import org.apache.nifi.serialization.record.RecordField;
 import org.apache.nifi.serialization.record.RecordFieldType;
 import org.apache.nifi.serialization.record.RecordSchema;
 import org.apache.nifi.serialization.record.type.ArrayDataType;
@@ -38,6 +39,7 @@ import org.codehaus.jackson.JsonParser;
 import org.codehaus.jackson.JsonToken;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.codehaus.jackson.node.ArrayNode;
+import org.codehaus.jackson.node.ObjectNode;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -109,7 +111,7 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
 
     @Override
     public Record nextRecord(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
-        final JsonNode nextNode = getNextJsonNode();
+        final JsonNode nextNode = getNextJsonNode(coerceTypes, dropUnknownFields);
         if (nextNode == null) {
             return null;
         }
@@ -279,23 +281,54 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
         return record;
     }
 
+    /**
+     * Returns the next JSON object to convert into a Record, given the arguments that were passed to {@link #nextRecord(boolean, boolean)}.
+     * By default, this is the entire object. Subclasses that do not need all of the fields of the object may override this method in
+     * order to use {@link #getNextJsonNode(RecordSchema, boolean)} instead.
+     */
+    protected JsonNode getNextJsonNode(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
+        return getNextJsonNode();
+    }
+
     protected JsonNode getNextJsonNode() throws IOException, MalformedRecordException {
         if (!firstObjectConsumed) {
             firstObjectConsumed = true;
             return firstJsonNode;
         }
 
+        return advanceToNextObject() ? jsonParser.readValueAsTree() : null;
+    }
+
+    /**
+     * Returns the next JSON object, containing only those fields that are present in the given schema, by name or by alias.
+     * All other fields are skipped in the token stream without being turned into JSON nodes.
+     *
+     * @param schema the schema whose fields should be read
+     * @param skipNestedFields whether or not the same should be done for nested objects whose field is a Record with a known schema
+     * @return the next JSON object, or <code>null</code> if there are no more objects
+     */
+    protected JsonNode getNextJsonNode(final RecordSchema schema, final boolean skipNestedFields) throws IOException, MalformedRecordException {
+        if (!firstObjectConsumed) {
+            // The first object had to be read before the schema was known, so its unknown fields are removed from the tree instead
+            firstObjectConsumed = true;
+            return firstJsonNode == null ? null : retainFields(firstJsonNode, schema, skipNestedFields);
+        }
+
+        return advanceToNextObject() ? readObject(schema, skipNestedFields) : null;
+    }
+
+    private boolean advanceToNextObject() throws IOException, MalformedRecordException {
         while (true) {
             final JsonToken token = jsonParser.nextToken();
             if (token == null) {
-                return null;
+                return false;
             }
 
             switch (token) {
                 case END_OBJECT:
                     continue;
                 case START_OBJECT:
-                    return jsonParser.readValueAsTree();
+                    return true;
                 case END_ARRAY:
                 case START_ARRAY:
                     continue;
@@ -306,6 +339,57 @@ public abstract class AbstractJsonRowRecordReader implements RecordReader {
         }
     }
 
+    private ObjectNode readObject(final RecordSchema schema, final boolean skipNestedFields) throws IOException {
+        final ObjectNode objectNode = codec.createObjectNode();
+
+        while (jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = jsonParser.getCurrentName();
+            final JsonToken valueToken = jsonParser.nextToken();
+
+            final RecordField field = schema.getField(fieldName).orElse(null);
+            if (field == null) {
+                jsonParser.skipChildren();
+                continue;
+            }
+
+            final RecordSchema childSchema = skipNestedFields && valueToken == JsonToken.START_OBJECT ? getChildSchema(field.getDataType()) : null;
+            if (childSchema == null) {
+                objectNode.put(fieldName, jsonParser.readValueAsTree());
+            } else {
+                objectNode.put(fieldName, readObject(childSchema, true));
+            }
+        }
+
+        return objectNode;
+    }
+
+    private ObjectNode retainFields(final JsonNode jsonNode, final RecordSchema schema, final boolean skipNestedFields) {
+        final ObjectNode objectNode = codec.createObjectNode();
+
+        final Iterator<Map.Entry<String, JsonNode>> fieldItr = jsonNode.getFields();
+        while (fieldItr.hasNext()) {
+            final Map.Entry<String, JsonNode> entry = fieldItr.next();
+            final RecordField field = schema.getField(entry.getKey()).orElse(null);
+            if (field == null) {
+                continue;
+            }
+
+            final JsonNode childNode = entry.getValue();
+            final RecordSchema childSchema = skipNestedFields && childNode.isObject() ? getChildSchema(field.getDataType()) : null;
+            objectNode.put(entry.getKey(), childSchema == null ? childNode : retainFields(childNode, childSchema, true));
+        }
+
+        return objectNode;
+    }
+
+    private RecordSchema getChildSchema(final DataType dataType) {
+        if (dataType.getFieldType() != RecordFieldType.RECORD) {
+            return null;
+        }
+
+        return ((RecordDataType) dataType).getChildSchema();
+    }
+
     @Override
     public void close() throws IOException {
         jsonParser.close();
@@ -63,9 +63,22 @@ import static org.apache.nifi.schema.inference.SchemaInferenceUtil.SCHEMA_CACHE;
 @SeeAlso(JsonPathReader.class)
 public class JsonTreeReader extends SchemaRegistryService implements RecordReaderFactory {
 
+    public static final PropertyDescriptor SKIP_UNKNOWN_FIELDS = new PropertyDescriptor.Builder()
+            .name("skip-unknown-fields")
+            .displayName("Skip Unknown Fields While Parsing")
+            .description("Fields that are not present in the schema are never added to a Record, but they are still parsed, and they remain part of the JSON "
+                    + "that each Record was read from. A JSON writer whose schema is the same as the Record's writes that JSON out unchanged, including those fields. "
+                    + "If true, fields that are not present in the schema are skipped while parsing, which is faster when there are many of them, but they are "
+                    + "then omitted from the output of such a writer as well.")
+            .allowableValues("true", "false")
+            .defaultValue("false")
+            .required(true)
+            .build();
+
     private volatile String dateFormat;
     private volatile String timeFormat;
     private volatile String timestampFormat;
+    private volatile boolean skipUnknownFields;
 
     @Override
     protected List<PropertyDescriptor> getSupportedPropertyDescriptors() {
@@ -77,6 +90,7 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
         properties.add(DateTimeUtils.DATE_FORMAT);
         properties.add(DateTimeUtils.TIME_FORMAT);
         properties.add(DateTimeUtils.TIMESTAMP_FORMAT);
+        properties.add(SKIP_UNKNOWN_FIELDS);
         return properties;
     }
 
@@ -85,6 +99,7 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
         this.dateFormat = context.getProperty(DateTimeUtils.DATE_FORMAT).getValue();
         this.timeFormat = context.getProperty(DateTimeUtils.TIME_FORMAT).getValue();
         this.timestampFormat = context.getProperty(DateTimeUtils.TIMESTAMP_FORMAT).getValue();
+        this.skipUnknownFields = context.getProperty(SKIP_UNKNOWN_FIELDS).asBoolean();
     }
 
     @Override
@@ -113,6 +128,6 @@ public class JsonTreeReader extends SchemaRegistryService implements RecordReade
     public RecordReader createRecordReader(final Map<String, String> variables, final InputStream in, final long inputLength, final ComponentLog logger)
             throws IOException, MalformedRecordException, SchemaNotFoundException {
         final RecordSchema schema = getSchema(variables, in, null);
-        return new JsonTreeRowRecordReader(in, logger, schema, dateFormat, timeFormat, timestampFormat);
+        return new JsonTreeRowRecordReader(in, logger, schema, dateFormat, timeFormat, timestampFormat, skipUnknownFields);
     }
 }
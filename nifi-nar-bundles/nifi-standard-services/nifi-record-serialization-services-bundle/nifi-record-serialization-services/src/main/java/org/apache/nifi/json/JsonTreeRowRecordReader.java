@@ -45,15 +45,32 @@ import java.util.function.Supplier;
 
 public class JsonTreeRowRecordReader extends AbstractJsonRowRecordReader {
     private final RecordSchema schema;
+    private final boolean skipUnknownFields;
 
 
     public JsonTreeRowRecordReader(final InputStream in, final ComponentLog logger, final RecordSchema schema,
         final String dateFormat, final String timeFormat, final String timestampFormat) throws IOException, MalformedRecordException {
+        this(in, logger, schema, dateFormat, timeFormat, timestampFormat, false);
+    }
+
+    public JsonTreeRowRecordReader(final InputStream in, final ComponentLog logger, final RecordSchema schema,
+        final String dateFormat, final String timeFormat, final String timestampFormat, final boolean skipUnknownFields) throws IOException, MalformedRecordException {
         super(in, logger, dateFormat, timeFormat, timestampFormat);
         this.schema = schema;
+        this.skipUnknownFields = skipUnknownFields;
     }
 
+    @Override
+    protected JsonNode getNextJsonNode(final boolean coerceTypes, final boolean dropUnknownFields) throws IOException, MalformedRecordException {
+        // Fields that are not in the schema are not added to the Record when dropping unknown fields, so there is no need to build
+        // JSON nodes for them. Nested Records only drop their unknown fields when types are coerced. This is only done when asked to,
+        // though, because it also removes those fields from each Record's serialized form, which a writer may write out as-is.
+        if (dropUnknownFields && skipUnknownFields) {
+            return getNextJsonNode(schema, coerceTypes);
+        }
 
+        return getNextJsonNode();
+    }
 
     @Override
     protected Record convertJsonNodeToRecord(final JsonNode jsonNode, final RecordSchema schema, final boolean coerceTypes, final boolean dropUnknownFields)
@@ -18,8 +18,11 @@
 package org.apache.nifi.json;
 
 import org.apache.avro.Schema;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.nifi.avro.AvroTypeUtil;
 import org.apache.nifi.logging.ComponentLog;
+import org.apache.nifi.record.NullSuppression;
+import org.apache.nifi.schema.access.SchemaNameAsAttribute;
 import org.apache.nifi.serialization.MalformedRecordException;
 import org.apache.nifi.serialization.SimpleRecordSchema;
 import org.apache.nifi.serialization.record.DataType;
@@ -35,11 +38,13 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -51,6 +56,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -409,6 +415,122 @@ public class TestJsonTreeRowRecordReader {
     }
 
 
+    @Test
+    public void testFieldsNotInSchemaSkippedWhenDropped() throws IOException, MalformedRecordException {
+        final List<RecordField> accountFields = new ArrayList<>();
+        accountFields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        fields.add(new RecordField("fullName", RecordFieldType.STRING.getDataType(), Collections.singleton("name")));
+        fields.add(new RecordField("account", RecordFieldType.RECORD.getRecordDataType(new SimpleRecordSchema(accountFields))));
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+
+        final String json = "[{\"id\": 1, \"name\": \"John Doe\", \"tags\": [\"a\", {\"b\": 2}], \"account\": {\"id\": 42, \"balance\": 4750.89}},"
+            + " {\"id\": 2, \"extra\": {\"nested\": [1, 2, 3]}, \"name\": \"Jane Doe\", \"account\": {\"balance\": 4820.09, \"id\": 43}}]";
+
+        try (final InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+            final JsonTreeRowRecordReader reader = new JsonTreeRowRecordReader(in, Mockito.mock(ComponentLog.class), schema, dateFormat, timeFormat, timestampFormat, true)) {
+
+            for (final int id : new int[] {1, 2}) {
+                final Record record = reader.nextRecord(true, true);
+                assertEquals(id, record.getValue("id"));
+                assertEquals(id == 1 ? "John Doe" : "Jane Doe", record.getValue("fullName"));
+                assertEquals(41 + id, ((Record) record.getValue("account")).getValue("id"));
+
+                final String serialized = (String) record.getSerializedForm().get().getSerialized();
+                assertFalse(serialized.contains("tags"));
+                assertFalse(serialized.contains("extra"));
+                assertFalse(serialized.contains("balance"));
+                assertTrue(serialized.contains("Doe"));
+            }
+
+            assertNull(reader.nextRecord(true, true));
+        }
+
+        // Nested records keep all of their fields when types are not coerced
+        try (final InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+            final JsonTreeRowRecordReader reader = new JsonTreeRowRecordReader(in, Mockito.mock(ComponentLog.class), schema, dateFormat, timeFormat, timestampFormat, true)) {
+
+            reader.nextRecord(false, true);
+            final Record record = reader.nextRecord(false, true);
+            assertNull(record.getValue("extra"));
+            assertEquals(4820.09, ((Record) record.getValue("account")).getValue("balance"));
+        }
+    }
+
+    @Test
+    @Ignore("Intended only for manual testing to determine performance before/after modifications")
+    public void testPerformanceWithFieldsNotInSchema() throws IOException, MalformedRecordException {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+
+        final StringBuilder flat = new StringBuilder("[");
+        final StringBuilder nested = new StringBuilder("[");
+        for (int i = 0; i < 100_000; i++) {
+            final String separator = i == 0 ? "" : ",";
+            flat.append(separator).append("{\"id\": ").append(i).append(", \"name\": \"name-").append(i).append("\"");
+            nested.append(separator).append("{\"id\": ").append(i).append(", \"name\": \"name-").append(i).append("\", \"details\": {");
+            for (int field = 0; field < 20; field++) {
+                flat.append(", \"field").append(field).append("\": \"value-").append(field).append("\"");
+                nested.append(field == 0 ? "" : ", ").append("\"field").append(field).append("\": {\"values\": [1, 2, 3], \"text\": \"value\"}");
+            }
+            flat.append("}");
+            nested.append("}}");
+        }
+        flat.append("]");
+        nested.append("]");
+
+        final ComponentLog logger = Mockito.mock(ComponentLog.class);
+        for (final String name : new String[] {"flat", "nested"}) {
+            final byte[] data = (name.equals("flat") ? flat : nested).toString().getBytes(StandardCharsets.UTF_8);
+
+            for (final boolean skipUnknownFields : new boolean[] {false, true}) {
+                for (int j = 0; j < 5; j++) {
+                    int recordCount = 0;
+                    final long start = System.nanoTime();
+                    try (final InputStream in = new ByteArrayInputStream(data);
+                        final JsonTreeRowRecordReader reader = new JsonTreeRowRecordReader(in, logger, schema, dateFormat, timeFormat, timestampFormat, skipUnknownFields)) {
+                        while (reader.nextRecord() != null) {
+                            recordCount++;
+                        }
+                    }
+                    final long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    System.out.println("Took " + millis + " millis to read " + recordCount + " " + name + " records, skipping unknown fields = " + skipUnknownFields);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFieldsNotInSchemaWrittenByJsonWriter() throws IOException, MalformedRecordException {
+        final List<RecordField> fields = new ArrayList<>();
+        fields.add(new RecordField("id", RecordFieldType.INT.getDataType()));
+        fields.add(new RecordField("name", RecordFieldType.STRING.getDataType()));
+        final RecordSchema schema = new SimpleRecordSchema(fields);
+
+        final String json = "[{\"id\": 1, \"name\": \"John Doe\", \"balance\": 4750.89}, {\"id\": 2, \"name\": \"Jane Doe\", \"balance\": 4820.09}]";
+
+        // By default, a writer with the same schema writes each record as it was read, including the fields that are not in the schema
+        assertEquals(StringUtils.deleteWhitespace(json), StringUtils.deleteWhitespace(readAndWriteJson(json, schema, false)));
+
+        assertEquals("[{\"id\":1,\"name\":\"JohnDoe\"},{\"id\":2,\"name\":\"JaneDoe\"}]", StringUtils.deleteWhitespace(readAndWriteJson(json, schema, true)));
+    }
+
+    private String readAndWriteJson(final String json, final RecordSchema schema, final boolean skipUnknownFields) throws IOException, MalformedRecordException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final InputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+            final JsonTreeRowRecordReader reader = new JsonTreeRowRecordReader(in, Mockito.mock(ComponentLog.class), schema, dateFormat, timeFormat, timestampFormat, skipUnknownFields);
+            final WriteJsonResult writer = new WriteJsonResult(Mockito.mock(ComponentLog.class), schema, new SchemaNameAsAttribute(), out, false,
+                NullSuppression.NEVER_SUPPRESS, OutputGrouping.OUTPUT_ARRAY, dateFormat, timeFormat, timestampFormat)) {
+
+            writer.write(reader.createRecordSet());
+        }
+
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
     @Test
     public void testReadRawRecordTypeCoercion() throws IOException, MalformedRecordException {
         final List<RecordField> fields = new ArrayList<>();